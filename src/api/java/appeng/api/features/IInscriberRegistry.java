@@ -19,7 +19,9 @@
 package appeng.api.features;
 
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
@@ -73,6 +75,94 @@ public interface IInscriberRegistry
 	@Nonnull
 	Set<ItemStack> getInputs();
 
+	/**
+	 * Recipes which might accept the given item as middle input.
+	 *
+	 * The result is narrowed down by item only, callers still have to compare the stacks. The default implementation
+	 * scans all recipes.
+	 *
+	 * @param input item in the middle slot
+	 *
+	 * @return candidate recipes, empty if none
+	 */
+	@Nonnull
+	default Collection<IInscriberRecipe> getRecipesForInput( @Nonnull final ItemStack input )
+	{
+		final List<IInscriberRecipe> out = new ArrayList<>();
+
+		if( input.isEmpty() )
+		{
+			return out;
+		}
+
+		for( final IInscriberRecipe recipe : this.getRecipes() )
+		{
+			for( final ItemStack option : recipe.getInputs() )
+			{
+				if( option.getItem() == input.getItem() )
+				{
+					out.add( recipe );
+					break;
+				}
+			}
+		}
+
+		return out;
+	}
+
+	/**
+	 * Recipes which might use the given item as top or bottom press.
+	 *
+	 * The result is narrowed down by item only, callers still have to compare the stacks. The default implementation
+	 * scans all recipes.
+	 *
+	 * @param optional item in the top or bottom slot
+	 *
+	 * @return candidate recipes, empty if none
+	 */
+	@Nonnull
+	default Collection<IInscriberRecipe> getRecipesForOptional( @Nonnull final ItemStack optional )
+	{
+		final List<IInscriberRecipe> out = new ArrayList<>();
+
+		if( optional.isEmpty() )
+		{
+			return out;
+		}
+
+		for( final IInscriberRecipe recipe : this.getRecipes() )
+		{
+			if( recipe.getTopOptional().orElse( ItemStack.EMPTY ).getItem() == optional.getItem() || recipe.getBottomOptional()
+					.orElse( ItemStack.EMPTY )
+					.getItem() == optional.getItem() )
+			{
+				out.add( recipe );
+			}
+		}
+
+		return out;
+	}
+
+	/**
+	 * The default implementation scans {@link #getOptionals()}.
+	 *
+	 * @param optional item in the top or bottom slot
+	 *
+	 * @return true, if any recipe uses the item as top or bottom press
+	 */
+	default boolean isOptional( @Nonnull final ItemStack optional )
+	{
+		for( final ItemStack is : this.getOptionals() )
+		{
+			if( ItemStack.areItemsEqual( optional, is ) && ItemStack.areItemStackTagsEqual( optional, is ) )
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * add a new recipe the easy way, duplicates will not be added.
 	 * Added recipes will be automatically added to the optionals and inputs.
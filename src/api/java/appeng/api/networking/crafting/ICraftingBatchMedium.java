@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2013 AlgorithmX2
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package appeng.api.networking.crafting;
+
+
+/**
+ * A {@link ICraftingMedium} which can accept several copies of a processing pattern at once.
+ *
+ * Crafting CPUs still use {@link ICraftingMedium#pushPattern} for crafting patterns, and whenever the batch is
+ * refused.
+ */
+public interface ICraftingBatchMedium extends ICraftingMedium
+{
+
+	/**
+	 * instruct a medium to process several copies of a processing pattern, the inputs are the condensed inputs of the
+	 * pattern multiplied by the accepted copies. The crafting CPU guarantees that it has these inputs available and
+	 * removes them from its own storage after the push.
+	 *
+	 * Only whole copies may be accepted.
+	 *
+	 * @param patternDetails details of a processing pattern
+	 * @param copies maximum number of copies to push
+	 *
+	 * @return the number of pushed copies, 0 if the batch was refused.
+	 */
+	int pushPatternBatch( ICraftingPatternDetails patternDetails, int copies );
+}
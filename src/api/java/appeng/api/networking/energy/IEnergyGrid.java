@@ -28,6 +28,7 @@ import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 
 import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
 import appeng.api.networking.IGridCache;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
 
@@ -112,4 +113,46 @@ public interface IEnergyGrid extends IGridCache, IEnergySource, IEnergyGridProvi
 	 */
 	@Nonnegative
 	double getEnergyDemand( @Nonnegative double maxRequired );
+
+	/**
+	 * Extracts power up front for an operation whose final cost is only known once it has been performed. Whatever
+	 * was not used has to be handed back with {@link #commitPower} or {@link #refundPower}.
+	 *
+	 * @param amt power to reserve
+	 * @param usePowerMultiplier multiplier applied to the amounts
+	 *
+	 * @return the reserved power, can be less than requested. 0 if the grid refuses the reservation, the power then has
+	 * to be extracted once the cost is known.
+	 */
+	@Nonnegative
+	default double reservePower( @Nonnegative final double amt, @Nonnull final PowerMultiplier usePowerMultiplier )
+	{
+		return this.extractAEPower( amt, Actionable.MODULATE, usePowerMultiplier );
+	}
+
+	/**
+	 * Completes a reservation, only the used power is kept and the remainder is refunded.
+	 *
+	 * @param reserved power returned by {@link #reservePower}
+	 * @param used power the operation actually consumed
+	 * @param usePowerMultiplier multiplier used for the reservation
+	 */
+	default void commitPower( @Nonnegative final double reserved, @Nonnegative final double used, @Nonnull final PowerMultiplier usePowerMultiplier )
+	{
+		if( reserved > used )
+		{
+			this.refundPower( reserved - used, usePowerMultiplier );
+		}
+	}
+
+	/**
+	 * Hands back reserved power which was not used.
+	 *
+	 * @param amt power to refund
+	 * @param usePowerMultiplier multiplier used for the reservation
+	 */
+	default void refundPower( @Nonnegative final double amt, @Nonnull final PowerMultiplier usePowerMultiplier )
+	{
+		this.injectPower( usePowerMultiplier.multiply( amt ), Actionable.MODULATE );
+	}
 }
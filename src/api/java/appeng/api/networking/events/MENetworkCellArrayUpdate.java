@@ -24,16 +24,36 @@
 package appeng.api.networking.events;
 
 
+import appeng.api.storage.ICellProvider;
+
+
 /**
  * Posted by storage devices to inform AE to refresh its storage structure.
  *
  * This is done in cases such as a storage cell being removed or added to a
  * drive.
  *
+ * Include the provider whose cell array changed, so only its handlers are
+ * replaced, without it the whole storage structure is rebuilt.
+ *
  * you do not need to send this event when your node is added / removed from the
  * grid.
  */
 public class MENetworkCellArrayUpdate extends MENetworkEvent
 {
 
+	/**
+	 * the changed provider, or null if the whole storage structure has to be rebuilt.
+	 */
+	public final ICellProvider provider;
+
+	public MENetworkCellArrayUpdate()
+	{
+		this( null );
+	}
+
+	public MENetworkCellArrayUpdate( final ICellProvider provider )
+	{
+		this.provider = provider;
+	}
 }
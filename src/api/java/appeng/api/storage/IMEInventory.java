@@ -64,6 +64,49 @@ public interface IMEInventory<T extends IAEStack<T>>
 	 */
 	T extractItems( T request, Actionable mode, IActionSource src );
 
+	/**
+	 * Store several stacks at once, or simulate it. Inventories which can handle a whole batch cheaper than one stack
+	 * at a time should override this, the default just calls {@link #injectItems} for every stack.
+	 *
+	 * @param input stacks to add, they are not changed.
+	 * @param type action type
+	 * @param src action source
+	 *
+	 * @return a new list with the amounts not added, empty if everything was added.
+	 */
+	default IItemList<T> injectBatch( final IItemList<T> input, final Actionable type, final IActionSource src )
+	{
+		final IItemList<T> leftovers = this.getChannel().createList();
+
+		for( final T stack : input )
+		{
+			leftovers.add( this.injectItems( stack.copy(), type, src ) );
+		}
+
+		return leftovers;
+	}
+
+	/**
+	 * Extract several stacks at once, or simulate it. The default just calls {@link #extractItems} for every stack.
+	 *
+	 * @param request stacks to extract ( with stack size. ), they are not changed.
+	 * @param mode simulate, or perform action?
+	 * @param src action source
+	 *
+	 * @return a new list with the amounts extracted, empty if nothing was extracted.
+	 */
+	default IItemList<T> extractBatch( final IItemList<T> request, final Actionable mode, final IActionSource src )
+	{
+		final IItemList<T> extracted = this.getChannel().createList();
+
+		for( final T stack : request )
+		{
+			extracted.add( this.extractItems( stack.copy(), mode, src ) );
+		}
+
+		return extracted;
+	}
+
 	/**
 	 * request a full report of all available items, storage.
 	 *
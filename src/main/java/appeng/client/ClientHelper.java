@@ -27,6 +27,7 @@ import java.util.Random;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.block.model.IBakedModel;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
@@ -36,6 +37,7 @@ import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraftforge.client.event.MouseEvent;
+import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.client.event.RenderLivingEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.client.model.ModelLoaderRegistry;
@@ -46,9 +48,12 @@ import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.fml.client.registry.RenderingRegistry;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
+import appeng.api.AEApi;
 import appeng.api.parts.CableRenderMode;
 import appeng.api.util.AEColor;
 import appeng.block.AEBaseBlock;
+import appeng.client.render.cablebus.CableBusBakedModel;
+import appeng.client.render.cablebus.CableBusQuadCache;
 import appeng.client.render.effects.AssemblerFX;
 import appeng.client.render.effects.CraftingFx;
 import appeng.client.render.effects.EnergyFx;
@@ -338,6 +343,27 @@ public class ClientHelper extends ServerHelper
 		}
 	}
 
+	@SubscribeEvent
+	public void onDebugOverlay( final RenderGameOverlayEvent.Text event )
+	{
+		final Minecraft mc = Minecraft.getMinecraft();
+		if( !mc.gameSettings.showDebugInfo )
+		{
+			return;
+		}
+
+		AEApi.instance().definitions().blocks().multiPart().maybeBlock().ifPresent( block ->
+		{
+			final IBakedModel model = mc.getBlockRendererDispatcher().getModelForState( block.getDefaultState() );
+
+			if( model instanceof CableBusBakedModel )
+			{
+				final CableBusQuadCache cache = ( (CableBusBakedModel) model ).getQuadCache();
+				event.getRight().add( String.format( "AE2 cable quads: %d cached, %.1f%% hits", cache.size(), cache.getHitRate() * 100 ) );
+			}
+		} );
+	}
+
 	@SubscribeEvent
 	public void onTextureStitch( final TextureStitchEvent.Pre event )
 	{
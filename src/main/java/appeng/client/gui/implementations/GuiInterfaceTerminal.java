@@ -241,6 +241,21 @@ public class GuiInterfaceTerminal extends AEBaseGui
 				{
 				}
 			}
+			else if( key.startsWith( "-" ) )
+			{
+				try
+				{
+					final long id = Long.parseLong( key.substring( 1 ), Character.MAX_RADIX );
+
+					if( this.byId.remove( id ) != null )
+					{
+						this.refreshList = true;
+					}
+				}
+				catch( final NumberFormatException ignored )
+				{
+				}
+			}
 		}
 
 		if( this.refreshList )
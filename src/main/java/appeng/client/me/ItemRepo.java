@@ -20,12 +20,16 @@ package appeng.client.me;
 
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.List;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
 
+import net.minecraft.client.Minecraft;
 import net.minecraft.item.ItemStack;
 
 import appeng.api.AEApi;
@@ -43,7 +47,6 @@ import appeng.core.AEConfig;
 import appeng.integration.Integrations;
 import appeng.items.storage.ItemViewCell;
 import appeng.util.ItemSorters;
-import appeng.util.Platform;
 import appeng.util.prioritylist.IPartitionList;
 
 
@@ -52,6 +55,14 @@ public class ItemRepo
 
 	private final IItemList<IAEItemStack> list = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
 	private final ArrayList<IAEItemStack> view = new ArrayList<>();
+	private final ItemSearchIndex index = new ItemSearchIndex();
+	// every type of the list in the order of the last sort, types added or moved since then are placed on demand.
+	private final ArrayList<ItemSearchIndex.Entry> sorted = new ArrayList<>();
+	private final Set<ItemSearchIndex.Entry> unsorted = new HashSet<>();
+	private boolean resort = true;
+	private boolean advancedTooltips;
+	private Enum sortedBy;
+	private Enum sortedDir;
 	private final IScrollSource src;
 	private final ISortSource sortSrc;
 
@@ -92,10 +103,16 @@ public class ItemRepo
 		{
 			st.reset();
 			st.add( is );
+
+			if( this.sortSrc.getSortBy() == SortOrder.AMOUNT )
+			{
+				this.unsorted.add( this.index.update( st ) );
+			}
 		}
 		else
 		{
 			this.list.add( is );
+			this.unsorted.add( this.index.update( this.list.findPrecise( is ) ) );
 		}
 	}
 
@@ -123,6 +140,12 @@ public class ItemRepo
 		this.innerSearch = this.searchString;
 		final boolean terminalSearchToolTips = AEConfig.instance().getConfigManager().getSetting( Settings.SEARCH_TOOLTIPS ) != YesNo.NO;
 
+		if( this.advancedTooltips != Minecraft.getMinecraft().gameSettings.advancedItemTooltips )
+		{
+			this.advancedTooltips = !this.advancedTooltips;
+			this.index.invalidateTooltips();
+		}
+
 		boolean searchMod = false;
 		if( this.innerSearch.startsWith( "@" ) )
 		{
@@ -147,9 +170,26 @@ public class ItemRepo
 			}
 		}
 
-		boolean notDone = false;
-		for( IAEItemStack is : this.list )
+		this.sortEntries();
+
+		final String search = this.innerSearch.toLowerCase();
+		final BitSet candidates = this.index.findCandidates( search, searchMod, terminalSearchToolTips );
+
+		for( final ItemSearchIndex.Entry entry : this.sorted )
 		{
+			IAEItemStack is = entry.getStack();
+
+			// the list drops types which are no longer meaningful while iterating.
+			if( !is.isMeaningful() )
+			{
+				continue;
+			}
+
+			if( candidates != null && !candidates.get( entry.getId() ) )
+			{
+				continue;
+			}
+
 			if( this.myPartitionList != null )
 			{
 				if( !this.myPartitionList.isListed( is ) )
@@ -168,26 +208,15 @@ public class ItemRepo
 				continue;
 			}
 
-			final String dspName = searchMod ? Platform.getModId( is ) : Platform.getItemDisplayName( is );
-			boolean foundMatchingItemStack = false;
-			notDone = true;
+			boolean foundMatchingItemStack = search.isEmpty() || m.matcher( searchMod ? entry.getMod() : entry.getName() ).find();
 
-			if( m.matcher( dspName.toLowerCase() ).find() )
+			if( terminalSearchToolTips && !foundMatchingItemStack && !searchMod )
 			{
-				notDone = false;
-				foundMatchingItemStack = true;
-			}
-
-			if( terminalSearchToolTips && notDone && !searchMod )
-			{
-				final List<String> tooltip = Platform.getTooltip( is );
-
-				for( final String line : tooltip )
+				for( final String line : entry.getTooltip() )
 				{
 					if( m.matcher( line ).find() )
 					{
 						foundMatchingItemStack = true;
-						notDone = false;
 						break;
 					}
 				}
@@ -204,29 +233,74 @@ public class ItemRepo
 				this.view.add( is );
 			}
 		}
+	}
 
-		final Enum SortBy = this.sortSrc.getSortBy();
-		final Enum SortDir = this.sortSrc.getSortDir();
+	/**
+	 * Sorts all types of the list after the settings changed or the list was cleared. Otherwise only the types which
+	 * were added, or whose amount changed while sorting by amount, are moved to their place. Searching only filters the
+	 * sorted types, so typing does not sort anything.
+	 */
+	private void sortEntries()
+	{
+		final Enum sortBy = this.sortSrc.getSortBy();
+		final Enum sortDir = this.sortSrc.getSortDir();
 
-		ItemSorters.setDirection( (appeng.api.config.SortDir) SortDir );
+		ItemSorters.setDirection( (appeng.api.config.SortDir) sortDir );
 		ItemSorters.init();
 
-		if( SortBy == SortOrder.MOD )
+		final Comparator<IAEItemStack> byStack = getComparator( sortBy );
+		final Comparator<ItemSearchIndex.Entry> comparator = ( a, b ) -> byStack.compare( a.getStack(), b.getStack() );
+
+		// placing each type costs a shift of the list, so many of them are cheaper to sort at once.
+		if( this.resort || sortBy != this.sortedBy || sortDir != this.sortedDir || this.unsorted.size() * 16 > this.sorted.size() )
+		{
+			this.resort = false;
+			this.sortedBy = sortBy;
+			this.sortedDir = sortDir;
+			this.unsorted.clear();
+
+			this.sorted.clear();
+			for( final IAEItemStack is : this.list )
+			{
+				this.sorted.add( this.index.update( is ) );
+			}
+
+			this.sorted.sort( comparator );
+			return;
+		}
+
+		if( this.unsorted.isEmpty() )
 		{
-			Collections.sort( this.view, ItemSorters.CONFIG_BASED_SORT_BY_MOD );
+			return;
 		}
-		else if( SortBy == SortOrder.AMOUNT )
+
+		this.sorted.removeIf( this.unsorted::contains );
+
+		for( final ItemSearchIndex.Entry entry : this.unsorted )
+		{
+			final int pos = Collections.binarySearch( this.sorted, entry, comparator );
+			this.sorted.add( pos < 0 ? -pos - 1 : pos, entry );
+		}
+
+		this.unsorted.clear();
+	}
+
+	private static Comparator<IAEItemStack> getComparator( final Enum sortBy )
+	{
+		if( sortBy == SortOrder.MOD )
 		{
-			Collections.sort( this.view, ItemSorters.CONFIG_BASED_SORT_BY_SIZE );
+			return ItemSorters.CONFIG_BASED_SORT_BY_MOD;
 		}
-		else if( SortBy == SortOrder.INVTWEAKS )
+		else if( sortBy == SortOrder.AMOUNT )
 		{
-			Collections.sort( this.view, ItemSorters.CONFIG_BASED_SORT_BY_INV_TWEAKS );
+			return ItemSorters.CONFIG_BASED_SORT_BY_SIZE;
 		}
-		else
+		else if( sortBy == SortOrder.INVTWEAKS )
 		{
-			Collections.sort( this.view, ItemSorters.CONFIG_BASED_SORT_BY_NAME );
+			return ItemSorters.CONFIG_BASED_SORT_BY_INV_TWEAKS;
 		}
+
+		return ItemSorters.CONFIG_BASED_SORT_BY_NAME;
 	}
 
 	private void updateJEI( String filter )
@@ -242,6 +316,8 @@ public class ItemRepo
 	public void clear()
 	{
 		this.list.resetStatus();
+		this.unsorted.clear();
+		this.resort = true;
 	}
 
 	public boolean hasPower()
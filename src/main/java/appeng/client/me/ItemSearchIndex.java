@@ -0,0 +1,177 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.me;
+
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.Platform;
+
+
+/**
+ * Lower-cased display names, mod ids and tooltips of every type an {@link ItemRepo} has seen, with a trigram index
+ * over each of them.
+ *
+ * Types get an id the first time they are seen, which they keep even if they leave and re-enter the repo. Tooltips are
+ * expensive to build, so they are only collected and indexed once a search asks for them.
+ */
+final class ItemSearchIndex
+{
+
+	private final Map<IAEItemStack, Entry> entries = new HashMap<>();
+	private final List<Entry> byId = new ArrayList<>();
+	private final TrigramIndex names = new TrigramIndex();
+	private final TrigramIndex mods = new TrigramIndex();
+	private TrigramIndex tooltips;
+
+	/**
+	 * @param current the instance stored in the repo, the entry refers to it until the type is re-added.
+	 */
+	Entry update( final IAEItemStack current )
+	{
+		Entry entry = this.entries.get( current );
+
+		if( entry == null )
+		{
+			entry = new Entry( this.byId.size(), current );
+			this.entries.put( current, entry );
+			this.byId.add( entry );
+
+			this.names.add( entry.id, entry.name );
+			this.mods.add( entry.id, entry.mod );
+
+			if( this.tooltips != null )
+			{
+				this.tooltips.add( entry.id, entry.getTooltip() );
+			}
+		}
+
+		entry.stack = current;
+		return entry;
+	}
+
+	/**
+	 * Drops the cached tooltips. The tooltip of a type only changes with the advanced tooltip toggle, everything else
+	 * that shows up in it, like charge or durability, makes it a different type.
+	 */
+	void invalidateTooltips()
+	{
+		for( final Entry entry : this.byId )
+		{
+			entry.tooltip = null;
+		}
+
+		this.tooltips = null;
+	}
+
+	/**
+	 * @return the ids of all types which might match the search, or null if it can not be narrowed down by the index.
+	 */
+	BitSet findCandidates( final String search, final boolean searchMod, final boolean searchTooltips )
+	{
+		if( !TrigramIndex.isIndexable( search ) )
+		{
+			return null;
+		}
+
+		if( searchMod )
+		{
+			return this.mods.find( search );
+		}
+
+		final BitSet candidates = this.names.find( search );
+
+		if( searchTooltips )
+		{
+			if( this.tooltips == null )
+			{
+				this.tooltips = new TrigramIndex();
+
+				for( final Entry entry : this.byId )
+				{
+					this.tooltips.add( entry.id, entry.getTooltip() );
+				}
+			}
+
+			candidates.or( this.tooltips.find( search ) );
+		}
+
+		return candidates;
+	}
+
+	static final class Entry
+	{
+
+		private final int id;
+		private final String name;
+		private final String mod;
+		private List<String> tooltip;
+		private IAEItemStack stack;
+
+		private Entry( final int id, final IAEItemStack stack )
+		{
+			this.id = id;
+			this.stack = stack;
+			this.name = Platform.getItemDisplayName( stack ).toLowerCase();
+			this.mod = Platform.getModId( stack ).toLowerCase();
+		}
+
+		int getId()
+		{
+			return this.id;
+		}
+
+		IAEItemStack getStack()
+		{
+			return this.stack;
+		}
+
+		String getName()
+		{
+			return this.name;
+		}
+
+		String getMod()
+		{
+			return this.mod;
+		}
+
+		List<String> getTooltip()
+		{
+			if( this.tooltip == null )
+			{
+				// built from a fresh stack, the repo's stack caches its tooltip forever.
+				final List<String> lines = Platform.getTooltip( this.stack.asItemStackRepresentation() );
+				this.tooltip = new ArrayList<>( lines.size() );
+
+				for( final String line : lines )
+				{
+					this.tooltip.add( line.toLowerCase() );
+				}
+			}
+
+			return this.tooltip;
+		}
+	}
+}
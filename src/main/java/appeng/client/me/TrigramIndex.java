@@ -0,0 +1,133 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.me;
+
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Maps every three character substring of the added texts to the ids of the texts containing it.
+ *
+ * Ids have to be added in ascending order.
+ */
+final class TrigramIndex
+{
+
+	private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+
+	private final Map<String, Posting> postings = new HashMap<>();
+
+	/**
+	 * @return true if the search is a literal of at least one trigram, so {@link #find} can narrow it down.
+	 */
+	static boolean isIndexable( final String search )
+	{
+		if( search.length() < 3 )
+		{
+			return false;
+		}
+
+		for( int i = 0; i < search.length(); i++ )
+		{
+			if( REGEX_CHARACTERS.indexOf( search.charAt( i ) ) >= 0 )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	void add( final int id, final String text )
+	{
+		this.add( id, Collections.singletonList( text ) );
+	}
+
+	void add( final int id, final List<String> lines )
+	{
+		for( final String line : lines )
+		{
+			for( int i = 0; i + 3 <= line.length(); i++ )
+			{
+				this.postings.computeIfAbsent( line.substring( i, i + 3 ), k -> new Posting() ).add( id );
+			}
+		}
+	}
+
+	/**
+	 * @return the ids which contain the rarest trigram of the search.
+	 */
+	BitSet find( final String search )
+	{
+		Posting rarest = null;
+
+		for( int i = 0; i + 3 <= search.length(); i++ )
+		{
+			final Posting posting = this.postings.get( search.substring( i, i + 3 ) );
+
+			if( posting == null )
+			{
+				return new BitSet();
+			}
+
+			if( rarest == null || posting.size < rarest.size )
+			{
+				rarest = posting;
+			}
+		}
+
+		final BitSet out = new BitSet();
+
+		for( int i = 0; i < rarest.size; i++ )
+		{
+			out.set( rarest.ids[i] );
+		}
+
+		return out;
+	}
+
+	private static final class Posting
+	{
+
+		private int[] ids = new int[4];
+		private int size = 0;
+
+		private void add( final int id )
+		{
+			// ids are added in ascending order, so a repeated trigram of the same text is always the last one.
+			if( this.size > 0 && this.ids[this.size - 1] == id )
+			{
+				return;
+			}
+
+			if( this.size == this.ids.length )
+			{
+				this.ids = Arrays.copyOf( this.ids, this.size * 2 );
+			}
+
+			this.ids[this.size++] = id;
+		}
+	}
+}
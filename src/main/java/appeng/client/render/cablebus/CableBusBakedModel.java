@@ -22,7 +22,6 @@ package appeng.client.render.cablebus;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -54,7 +53,7 @@ import appeng.block.networking.BlockCableBus;
 public class CableBusBakedModel implements IBakedModel
 {
 
-	private static final Map<CableBusRenderState, List<BakedQuad>> CABLE_MODEL_CACHE = new HashMap<>();
+	private static final int QUAD_CACHE_SIZE = 4096;
 
 	private final CableBuilder cableBuilder;
 
@@ -64,6 +63,9 @@ public class CableBusBakedModel implements IBakedModel
 
 	private final TextureAtlasSprite particleTexture;
 
+	// quads are only valid for the textures they were baked with, so every bake (e.g. a resource reload) starts empty.
+	private final CableBusQuadCache quadCache = new CableBusQuadCache( QUAD_CACHE_SIZE );
+
 	private final TextureMap textureMap = Minecraft.getMinecraft().getTextureMapBlocks();
 
 	CableBusBakedModel( CableBuilder cableBuilder, FacadeBuilder facadeBuilder, Map<ResourceLocation, IBakedModel> partModels, TextureAtlasSprite particleTexture )
@@ -86,60 +88,73 @@ public class CableBusBakedModel implements IBakedModel
 
 		BlockRenderLayer layer = MinecraftForgeClient.getRenderLayer();
 
-		List<BakedQuad> quads = new ArrayList<>();
-
 		// The core parts of the cable will only be rendered in the CUTOUT layer.
 		// Facades will add them selves to what ever the block would be rendered with,
 		// except when transparent facades are enabled, they are forced to TRANSPARENT.
+		final List<BakedQuad> cached;
 		if( layer == BlockRenderLayer.CUTOUT )
 		{
+			cached = this.quadCache.get( renderState, k -> this.buildQuads( state, k, rand ) );
+		}
+		else
+		{
+			cached = Collections.emptyList();
+		}
+
+		if( renderState.getFacades().isEmpty() )
+		{
+			return cached;
+		}
 
-			// First, handle the cable at the center of the cable bus
-			final List<BakedQuad> cableModel = CABLE_MODEL_CACHE.computeIfAbsent( renderState, k ->
+		List<BakedQuad> quads = new ArrayList<>( cached );
+		this.facadeBuilder.buildFacadeQuads( layer, renderState, rand, quads, this.partModels::get );
+
+		return quads;
+	}
+
+	/**
+	 * @return the quads of the cable and its attachments.
+	 */
+	private List<BakedQuad> buildQuads( IBlockState state, CableBusRenderState renderState, long rand )
+	{
+		List<BakedQuad> quads = new ArrayList<>();
+
+		// First, handle the cable at the center of the cable bus
+		this.addCableQuads( renderState, quads );
+
+		// Then handle attachments
+		QuadRotator rotator = new QuadRotator();
+		for( EnumFacing facing : EnumFacing.values() )
+		{
+			final IPartModel partModel = renderState.getAttachments().get( facing );
+			if( partModel == null )
 			{
-				final List<BakedQuad> model = new ArrayList<>();
-				this.addCableQuads( renderState, model );
-				return model;
-			} );
-			quads.addAll( cableModel );
-
-			// Then handle attachments
-			for( EnumFacing facing : EnumFacing.values() )
+				continue;
+			}
+
+			for( ResourceLocation model : partModel.getModels() )
 			{
-				final IPartModel partModel = renderState.getAttachments().get( facing );
-				if( partModel == null )
+				IBakedModel bakedModel = this.partModels.get( model );
+
+				if( bakedModel == null )
 				{
-					continue;
+					throw new IllegalStateException( "Trying to use an unregistered part model: " + model );
 				}
 
-				for( ResourceLocation model : partModel.getModels() )
+				List<BakedQuad> partQuads;
+				if( bakedModel instanceof IPartBakedModel )
+				{
+					partQuads = ( (IPartBakedModel) bakedModel ).getPartQuads( renderState.getPartFlags().get( facing ), rand );
+				}
+				else
 				{
-					IBakedModel bakedModel = this.partModels.get( model );
-
-					if( bakedModel == null )
-					{
-						throw new IllegalStateException( "Trying to use an unregistered part model: " + model );
-					}
-
-					List<BakedQuad> partQuads;
-					if( bakedModel instanceof IPartBakedModel )
-					{
-						partQuads = ( (IPartBakedModel) bakedModel ).getPartQuads( renderState.getPartFlags().get( facing ), rand );
-					}
-					else
-					{
-						partQuads = bakedModel.getQuads( state, null, rand );
-					}
-
-					// Rotate quads accordingly
-					QuadRotator rotator = new QuadRotator();
-					partQuads = rotator.rotateQuads( partQuads, facing, EnumFacing.UP );
-
-					quads.addAll( partQuads );
+					partQuads = bakedModel.getQuads( state, null, rand );
 				}
+
+				// Rotate quads accordingly
+				quads.addAll( rotator.rotateQuads( partQuads, facing, EnumFacing.UP ) );
 			}
 		}
-		this.facadeBuilder.buildFacadeQuads( layer, renderState, rand, quads, this.partModels::get );
 
 		return quads;
 	}
@@ -331,6 +346,11 @@ public class CableBusBakedModel implements IBakedModel
 		return extendedBlockState.getValue( BlockCableBus.RENDER_STATE_PROPERTY );
 	}
 
+	public CableBusQuadCache getQuadCache()
+	{
+		return this.quadCache;
+	}
+
 	@Override
 	public boolean isAmbientOcclusion()
 	{
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render.cablebus;
+
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import net.minecraft.client.renderer.block.model.BakedQuad;
+
+
+/**
+ * A size bounded, least recently used cache of the quads of a cable bus, without its facades.
+ *
+ * {@link CableBusRenderState#equals} ignores the attachments, so they are part of the key as well. Facades are not
+ * cached since they are tinted and shaped by the surrounding world.
+ *
+ * Its size and hit rate are listed on the debug screen.
+ */
+public class CableBusQuadCache
+{
+
+	private final Map<Key, List<BakedQuad>> cache;
+	private long hits = 0;
+	private long misses = 0;
+
+	CableBusQuadCache( final int maxSize )
+	{
+		this.cache = new LinkedHashMap<Key, List<BakedQuad>>( 16, 0.75f, true )
+		{
+			@Override
+			protected boolean removeEldestEntry( final Map.Entry<Key, List<BakedQuad>> eldest )
+			{
+				return this.size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Chunks are built on several threads, the quads are built outside of the lock and may be built twice.
+	 */
+	List<BakedQuad> get( final CableBusRenderState renderState, final Function<CableBusRenderState, List<BakedQuad>> builder )
+	{
+		final Key key = new Key( renderState );
+
+		synchronized( this )
+		{
+			final List<BakedQuad> quads = this.cache.get( key );
+
+			if( quads != null )
+			{
+				this.hits++;
+				return quads;
+			}
+
+			this.misses++;
+		}
+
+		final List<BakedQuad> quads = Collections.unmodifiableList( builder.apply( renderState ) );
+
+		synchronized( this )
+		{
+			this.cache.put( key, quads );
+		}
+
+		return quads;
+	}
+
+	public synchronized long getHits()
+	{
+		return this.hits;
+	}
+
+	public synchronized long getMisses()
+	{
+		return this.misses;
+	}
+
+	public synchronized double getHitRate()
+	{
+		final long total = this.hits + this.misses;
+		return total > 0 ? (double) this.hits / total : 0;
+	}
+
+	public synchronized int size()
+	{
+		return this.cache.size();
+	}
+
+	private static final class Key
+	{
+
+		private final CableBusRenderState renderState;
+		private final int hash;
+
+		private Key( final CableBusRenderState renderState )
+		{
+			this.renderState = renderState;
+			this.hash = 31 * renderState.hashCode() + renderState.getAttachments().hashCode();
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals( final Object obj )
+		{
+			if( this == obj )
+			{
+				return true;
+			}
+			if( obj == null || this.getClass() != obj.getClass() )
+			{
+				return false;
+			}
+
+			final Key other = (Key) obj;
+
+			return this.hash == other.hash && this.renderState.equals( other.renderState ) && this.renderState.getAttachments()
+					.equals( other.renderState.getAttachments() );
+		}
+	}
+}
@@ -19,6 +19,9 @@
 package appeng.container.implementations;
 
 
+import java.util.HashSet;
+import java.util.Set;
+
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
@@ -27,6 +30,7 @@ import net.minecraftforge.items.IItemHandler;
 import appeng.api.AEApi;
 import appeng.api.definitions.IItemDefinition;
 import appeng.api.features.IInscriberRecipe;
+import appeng.api.features.IInscriberRegistry;
 import appeng.container.guisync.GuiSync;
 import appeng.container.interfaces.IProgressProvider;
 import appeng.container.slot.SlotOutput;
@@ -126,8 +130,12 @@ public class ContainerInscriber extends ContainerUpgradeable implements IProgres
 				return !press.isSameAs( is );
 			}
 
+			final IInscriberRegistry registry = AEApi.instance().registries().inscriber();
+			final Set<IInscriberRecipe> candidates = new HashSet<>( registry.getRecipesForOptional( top ) );
+			candidates.addAll( registry.getRecipesForOptional( bot ) );
+
 			boolean matches = false;
-			for( final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes() )
+			for( final IInscriberRecipe recipe : candidates )
 			{
 				final boolean matchA = !top
 						.isEmpty() && ( Platform.itemComparisons().isSameItem( top, recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) || Platform
@@ -175,7 +183,7 @@ public class ContainerInscriber extends ContainerUpgradeable implements IProgres
 			}
 
 			// everything else
-			for( final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes() )
+			for( final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipesForOptional( otherSlot ) )
 			{
 				boolean isValid = false;
 				if( Platform.itemComparisons().isSameItem( otherSlot, recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) )
@@ -20,10 +20,12 @@ package appeng.container.implementations;
 
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.entity.player.InventoryPlayer;
 import net.minecraft.item.ItemStack;
@@ -42,10 +44,9 @@ import appeng.helpers.DualityInterface;
 import appeng.helpers.IInterfaceHost;
 import appeng.helpers.InventoryAction;
 import appeng.items.misc.ItemEncodedPattern;
-import appeng.parts.misc.PartInterface;
+import appeng.me.cache.InterfaceTerminalCache;
 import appeng.parts.reporting.PartInterfaceTerminal;
 import appeng.tile.inventory.AppEngInternalInventory;
-import appeng.tile.misc.TileInterface;
 import appeng.util.InventoryAdaptor;
 import appeng.util.Platform;
 import appeng.util.helpers.ItemHandlerUtil;
@@ -63,10 +64,15 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer
 	 * this stuff is all server side..
 	 */
 
+	private static final int NAME_CHECKS_PER_TICK = 8;
+
 	private static long autoBase = Long.MIN_VALUE;
 	private final Map<IInterfaceHost, InvTracker> diList = new HashMap<>();
 	private final Map<Long, InvTracker> byId = new HashMap<>();
+	private final Deque<IInterfaceHost> nameChecks = new ArrayDeque<>();
 	private IGrid grid;
+	private InterfaceTerminalCache.Subscription subscription;
+	private boolean wasActive;
 	private NBTTagCompound data = new NBTTagCompound();
 
 	public ContainerInterfaceTerminal( final InventoryPlayer ip, final PartInterfaceTerminal anchor )
@@ -96,109 +102,150 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer
 			return;
 		}
 
-		int total = 0;
-		boolean missing = false;
+		final InterfaceTerminalCache cache = this.grid.getCache( InterfaceTerminalCache.class );
+		final boolean active = this.isTerminalActive();
 
-		final IActionHost host = this.getActionHost();
-		if( host != null )
+		if( this.subscription == null || active != this.wasActive )
 		{
-			final IGridNode agn = host.getActionableNode();
-			if( agn != null && agn.isActive() )
+			if( this.subscription == null )
 			{
-				for( final IGridNode gn : this.grid.getMachines( TileInterface.class ) )
-				{
-					if( gn.isActive() )
-					{
-						final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-						if( ih.getInterfaceDuality().getConfigManager().getSetting( Settings.INTERFACE_TERMINAL ) == YesNo.NO )
-						{
-							continue;
-						}
+				this.subscription = cache.subscribe();
+			}
 
-						final InvTracker t = this.diList.get( ih );
+			this.wasActive = active;
+			this.subscription.takeChanges();
+			this.regenList( this.data, cache, active );
+		}
+		else if( active )
+		{
+			for( final IInterfaceHost ih : this.subscription.takeChanges() )
+			{
+				this.updateInterface( this.data, cache, ih );
+			}
 
-						if( t == null )
-						{
-							missing = true;
-						}
-						else
-						{
-							final DualityInterface dual = ih.getInterfaceDuality();
-							if( !t.unlocalizedName.equals( dual.getTermName() ) )
-							{
-								missing = true;
-							}
-						}
+			this.checkNames( this.data, cache );
+		}
 
-						total++;
-					}
-				}
+		if( !this.data.hasNoTags() )
+		{
+			try
+			{
+				NetworkHandler.instance().sendTo( new PacketCompressedNBT( this.data ), (EntityPlayerMP) this.getPlayerInv().player );
+			}
+			catch( final IOException e )
+			{
+				// :P
+			}
 
-				for( final IGridNode gn : this.grid.getMachines( PartInterface.class ) )
-				{
-					if( gn.isActive() )
-					{
-						final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-						if( ih.getInterfaceDuality().getConfigManager().getSetting( Settings.INTERFACE_TERMINAL ) == YesNo.NO )
-						{
-							continue;
-						}
+			this.data = new NBTTagCompound();
+		}
+	}
 
-						final InvTracker t = this.diList.get( ih );
+	@Override
+	public void onContainerClosed( final EntityPlayer player )
+	{
+		super.onContainerClosed( player );
 
-						if( t == null )
-						{
-							missing = true;
-						}
-						else
-						{
-							final DualityInterface dual = ih.getInterfaceDuality();
-							if( !t.unlocalizedName.equals( dual.getTermName() ) )
-							{
-								missing = true;
-							}
-						}
+		if( this.grid != null && this.subscription != null )
+		{
+			final InterfaceTerminalCache cache = this.grid.getCache( InterfaceTerminalCache.class );
+			cache.unsubscribe( this.subscription );
+			this.subscription = null;
+		}
+	}
 
-						total++;
-					}
-				}
-			}
+	private boolean isTerminalActive()
+	{
+		final IActionHost host = this.getActionHost();
+		if( host != null )
+		{
+			final IGridNode agn = host.getActionableNode();
+			return agn != null && agn.isActive();
 		}
 
-		if( total != this.diList.size() || missing )
+		return false;
+	}
+
+	private boolean isVisible( final InterfaceTerminalCache cache, final IInterfaceHost ih )
+	{
+		final IGridNode gn = cache.getNode( ih );
+		return gn != null && gn.isActive() && ih.getInterfaceDuality().getConfigManager().getSetting( Settings.INTERFACE_TERMINAL ) == YesNo.YES;
+	}
+
+	/**
+	 * Brings the client up to date with a single interface, which might have been added, removed or renamed.
+	 */
+	private void updateInterface( final NBTTagCompound data, final InterfaceTerminalCache cache, final IInterfaceHost ih )
+	{
+		final boolean visible = this.isVisible( cache, ih );
+		InvTracker inv = this.diList.get( ih );
+
+		if( inv != null && ( !visible || !inv.unlocalizedName.equals( ih.getInterfaceDuality().getTermName() ) ) )
 		{
-			this.regenList( this.data );
+			// renamed entries are replaced, the client keeps the name of an id.
+			this.removeTracker( data, ih, inv );
+			inv = null;
+		}
+
+		if( !visible )
+		{
+			return;
+		}
+
+		if( inv == null )
+		{
+			this.addTracker( data, ih );
 		}
 		else
 		{
-			for( final Entry<IInterfaceHost, InvTracker> en : this.diList.entrySet() )
+			for( int x = 0; x < inv.server.getSlots(); x++ )
 			{
-				final InvTracker inv = en.getValue();
-				for( int x = 0; x < inv.server.getSlots(); x++ )
+				if( this.isDifferent( inv.server.getStackInSlot( x ), inv.client.getStackInSlot( x ) ) )
 				{
-					if( this.isDifferent( inv.server.getStackInSlot( x ), inv.client.getStackInSlot( x ) ) )
-					{
-						this.addItems( this.data, inv, x, 1 );
-					}
+					this.addItems( data, inv, x, 1 );
 				}
 			}
 		}
+	}
 
-		if( !this.data.hasNoTags() )
+	/**
+	 * Names also depend on the blocks next to an interface, which do not report changes. So check a few of them every
+	 * tick.
+	 */
+	private void checkNames( final NBTTagCompound data, final InterfaceTerminalCache cache )
+	{
+		for( int x = 0; x < NAME_CHECKS_PER_TICK && x < this.nameChecks.size(); x++ )
 		{
-			try
-			{
-				NetworkHandler.instance().sendTo( new PacketCompressedNBT( this.data ), (EntityPlayerMP) this.getPlayerInv().player );
-			}
-			catch( final IOException e )
+			final IInterfaceHost ih = this.nameChecks.poll();
+			this.nameChecks.add( ih );
+
+			final InvTracker inv = this.diList.get( ih );
+			if( inv != null && !inv.unlocalizedName.equals( ih.getInterfaceDuality().getTermName() ) )
 			{
-				// :P
+				this.updateInterface( data, cache, ih );
 			}
-
-			this.data = new NBTTagCompound();
 		}
 	}
 
+	private void addTracker( final NBTTagCompound data, final IInterfaceHost ih )
+	{
+		final DualityInterface dual = ih.getInterfaceDuality();
+		final InvTracker inv = new InvTracker( dual, dual.getPatterns(), dual.getTermName() );
+
+		this.diList.put( ih, inv );
+		this.byId.put( inv.which, inv );
+		this.nameChecks.add( ih );
+		this.addItems( data, inv, 0, inv.server.getSlots() );
+	}
+
+	private void removeTracker( final NBTTagCompound data, final IInterfaceHost ih, final InvTracker inv )
+	{
+		this.diList.remove( ih );
+		this.byId.remove( inv.which );
+		this.nameChecks.remove( ih );
+		data.setBoolean( '-' + Long.toString( inv.which, Character.MAX_RADIX ), true );
+	}
+
 	@Override
 	public void doAction( final EntityPlayerMP player, final InventoryAction action, final int slot, final long id )
 	{
@@ -311,47 +358,24 @@ public final class ContainerInterfaceTerminal extends AEBaseContainer
 		}
 	}
 
-	private void regenList( final NBTTagCompound data )
+	private void regenList( final NBTTagCompound data, final InterfaceTerminalCache cache, final boolean active )
 	{
 		this.byId.clear();
 		this.diList.clear();
+		this.nameChecks.clear();
 
-		final IActionHost host = this.getActionHost();
-		if( host != null )
+		data.setBoolean( "clear", true );
+
+		if( active )
 		{
-			final IGridNode agn = host.getActionableNode();
-			if( agn != null && agn.isActive() )
+			for( final IInterfaceHost ih : cache.getInterfaces() )
 			{
-				for( final IGridNode gn : this.grid.getMachines( TileInterface.class ) )
-				{
-					final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-					final DualityInterface dual = ih.getInterfaceDuality();
-					if( gn.isActive() && dual.getConfigManager().getSetting( Settings.INTERFACE_TERMINAL ) == YesNo.YES )
-					{
-						this.diList.put( ih, new InvTracker( dual, dual.getPatterns(), dual.getTermName() ) );
-					}
-				}
-
-				for( final IGridNode gn : this.grid.getMachines( PartInterface.class ) )
+				if( this.isVisible( cache, ih ) )
 				{
-					final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-					final DualityInterface dual = ih.getInterfaceDuality();
-					if( gn.isActive() && dual.getConfigManager().getSetting( Settings.INTERFACE_TERMINAL ) == YesNo.YES )
-					{
-						this.diList.put( ih, new InvTracker( dual, dual.getPatterns(), dual.getTermName() ) );
-					}
+					this.addTracker( data, ih );
 				}
 			}
 		}
-
-		data.setBoolean( "clear", true );
-
-		for( final Entry<IInterfaceHost, InvTracker> en : this.diList.entrySet() )
-		{
-			final InvTracker inv = en.getValue();
-			this.byId.put( inv.which, inv );
-			this.addItems( data, inv, 0, inv.server.getSlots() );
-		}
 	}
 
 	private boolean isDifferent( final ItemStack a, final ItemStack b )
@@ -71,6 +71,7 @@ import appeng.me.helpers.ChannelPowerSrc;
 import appeng.util.ConfigManager;
 import appeng.util.IConfigManagerHost;
 import appeng.util.Platform;
+import appeng.util.item.ItemDictionary;
 
 
 public class ContainerMEMonitorable extends AEBaseContainer implements IConfigManagerHost, IConfigurableObject, IMEMonitorHandlerReceiver<IAEItemStack>
@@ -79,6 +80,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 	private final SlotRestrictedInput[] cellView = new SlotRestrictedInput[5];
 	private final IMEMonitor<IAEItemStack> monitor;
 	private final IItemList<IAEItemStack> items = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
+	private final ItemDictionary itemDictionary = new ItemDictionary();
 	private final IConfigManager clientCM;
 	private final ITerminalHost host;
 	@GuiSync( 99 )
@@ -225,18 +227,27 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 				{
 					final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
 
-					final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+					PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate( this.windowId, this.itemDictionary );
 
 					for( final IAEItemStack is : this.items )
 					{
-						final IAEItemStack send = monitorCache.findPrecise( is );
+						IAEItemStack send = monitorCache.findPrecise( is );
 						if( send == null )
 						{
 							is.setStackSize( 0 );
-							piu.appendItem( is );
+							send = is;
 						}
-						else
+
+						try
+						{
+							piu.appendItem( send );
+						}
+						catch( final BufferOverflowException boe )
 						{
+							// the written entries already have their ids, so the packet has to reach the client.
+							this.sendToListeners( piu );
+
+							piu = new PacketMEInventoryUpdate( this.windowId, this.itemDictionary );
 							piu.appendItem( send );
 						}
 					}
@@ -244,14 +255,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 					if( !piu.isEmpty() )
 					{
 						this.items.resetStatus();
-
-						for( final Object c : this.listeners )
-						{
-							if( c instanceof EntityPlayer )
-							{
-								NetworkHandler.instance().sendTo( piu, (EntityPlayerMP) c );
-							}
-						}
+						this.sendToListeners( piu );
 					}
 				}
 				catch( final IOException e )
@@ -280,6 +284,17 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 
 	}
 
+	private void sendToListeners( final PacketMEInventoryUpdate piu )
+	{
+		for( final Object c : this.listeners )
+		{
+			if( c instanceof EntityPlayer )
+			{
+				NetworkHandler.instance().sendTo( piu, (EntityPlayerMP) c );
+			}
+		}
+	}
+
 	protected void updatePowerStatus()
 	{
 		try
@@ -334,7 +349,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 		{
 			try
 			{
-				PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+				PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate( this.windowId, this.itemDictionary );
 				final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
 
 				for( final IAEItemStack send : monitorCache )
@@ -347,7 +362,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 					{
 						NetworkHandler.instance().sendTo( piu, (EntityPlayerMP) c );
 
-						piu = new PacketMEInventoryUpdate();
+						piu = new PacketMEInventoryUpdate( this.windowId, this.itemDictionary );
 						piu.appendItem( send );
 					}
 				}
@@ -361,6 +376,11 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 		}
 	}
 
+	public ItemDictionary getItemDictionary()
+	{
+		return this.itemDictionary;
+	}
+
 	@Override
 	public void removeListener( final IContainerListener c )
 	{
@@ -46,6 +46,7 @@ import appeng.api.config.YesNo;
 import appeng.api.util.IConfigManager;
 import appeng.api.util.IConfigurableObject;
 import appeng.core.features.AEFeature;
+import appeng.core.settings.ItemTunnelRouting;
 import appeng.core.settings.TickRates;
 import appeng.items.materials.MaterialType;
 import appeng.util.ConfigManager;
@@ -82,11 +83,13 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 	// Misc
 	private boolean removeCrashingItemsOnLoad = false;
 	private int formationPlaneEntityLimit = 128;
+	private ItemTunnelRouting itemTunnelRouting = ItemTunnelRouting.CHAINED;
 	private boolean enableEffects = true;
 	private boolean useLargeFonts = false;
 	private boolean useColoredCraftingStatus;
 	private boolean disableColoredCableRecipesInJEI = true;
 	private int craftingCalculationTimePerTick = 5;
+	private int craftingCalculatorThreads = 0;
 	private PowerUnits selectedPowerUnit = PowerUnits.AE;
 
 	// GUI Buttons
@@ -206,6 +209,16 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 				.getInt(
 						this.formationPlaneEntityLimit );
 
+		try
+		{
+			this.itemTunnelRouting = ItemTunnelRouting.valueOf( this.get( "automation", "itemTunnelRouting", this.itemTunnelRouting.name(),
+					"How item P2P tunnels distribute items across their outputs. " + this.getListComment( this.itemTunnelRouting ) ).getString() );
+		}
+		catch( final IllegalArgumentException e )
+		{
+			this.itemTunnelRouting = ItemTunnelRouting.CHAINED;
+		}
+
 		this.wirelessTerminalBattery = this.get( "battery", "wirelessTerminal", this.wirelessTerminalBattery ).getInt( this.wirelessTerminalBattery );
 		this.chargedStaffBattery = this.get( "battery", "chargedStaff", this.chargedStaffBattery ).getInt( this.chargedStaffBattery );
 		this.entropyManipulatorBattery = this.get( "battery", "entropyManipulator", this.entropyManipulatorBattery ).getInt( this.entropyManipulatorBattery );
@@ -273,6 +286,9 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 			this.craftingCalculationTimePerTick = this.get( "craftingCPU", "craftingCalculationTimePerTick", this.craftingCalculationTimePerTick )
 					.getInt(
 							this.craftingCalculationTimePerTick );
+			this.craftingCalculatorThreads = this.get( "craftingCPU", "craftingCalculatorThreads", this.craftingCalculatorThreads,
+					"Number of threads used for crafting calculations, 0 uses one less than the number of available processors." )
+					.getInt( this.craftingCalculatorThreads );
 		}
 
 		this.updatable = true;
@@ -590,6 +606,11 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 		return this.formationPlaneEntityLimit;
 	}
 
+	public ItemTunnelRouting getItemTunnelRouting()
+	{
+		return this.itemTunnelRouting;
+	}
+
 	public boolean isEnableEffects()
 	{
 		return this.enableEffects;
@@ -615,6 +636,11 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 		return this.craftingCalculationTimePerTick;
 	}
 
+	public int getCraftingCalculatorThreads()
+	{
+		return this.craftingCalculatorThreads;
+	}
+
 	public PowerUnits getSelectedPowerUnit()
 	{
 		return this.selectedPowerUnit;
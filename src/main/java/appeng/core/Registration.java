@@ -109,6 +109,7 @@ import appeng.loot.ChestLoot;
 import appeng.me.cache.CraftingGridCache;
 import appeng.me.cache.EnergyGridCache;
 import appeng.me.cache.GridStorageCache;
+import appeng.me.cache.InterfaceTerminalCache;
 import appeng.me.cache.P2PCache;
 import appeng.me.cache.PathGridCache;
 import appeng.me.cache.SecurityCache;
@@ -236,6 +237,7 @@ final class Registration
 		gcr.registerGridCache( ISpatialCache.class, SpatialPylonCache.class );
 		gcr.registerGridCache( ISecurityGrid.class, SecurityCache.class );
 		gcr.registerGridCache( ICraftingGrid.class, CraftingGridCache.class );
+		gcr.registerGridCache( InterfaceTerminalCache.class, InterfaceTerminalCache.class );
 
 		registries.cell().addCellHandler( new BasicCellHandler() );
 		registries.cell().addCellHandler( new CreativeCellHandler() );
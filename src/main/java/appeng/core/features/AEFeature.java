@@ -74,6 +74,7 @@ public enum AEFeature
 	SPATIAL_IO( "SpatialIO", Constants.CATEGORY_NETWORK_FEATURES ),
 	QUANTUM_NETWORK_BRIDGE( "QuantumNetworkBridge", Constants.CATEGORY_NETWORK_FEATURES ),
 	CHANNELS( "Channels", Constants.CATEGORY_NETWORK_FEATURES ),
+	COALESCE_STORAGE_CHANGES( "CoalesceStorageChanges", Constants.CATEGORY_NETWORK_FEATURES, false, "Collect the storage changes of a network during a tick and send them to terminals and storage buses once at its end. Level emitters still see every change right away." ),
 
 	INTERFACE( "Interface", Constants.CATEGORY_NETWORK_BUSES ),
 	FLUID_INTERFACE( "FluidInterface", Constants.CATEGORY_NETWORK_BUSES ),
@@ -22,21 +22,25 @@ package appeng.core.features.registries.inscriber;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
 
 import com.google.common.base.Preconditions;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import appeng.api.features.IInscriberRecipe;
 import appeng.api.features.IInscriberRecipeBuilder;
 import appeng.api.features.IInscriberRegistry;
 import appeng.api.features.InscriberProcessType;
+import appeng.util.Platform;
 
 
 /**
@@ -49,12 +53,16 @@ public final class InscriberRegistry implements IInscriberRegistry
 	private final Set<IInscriberRecipe> recipes;
 	private final Set<ItemStack> optionals;
 	private final Set<ItemStack> inputs;
+	private final Map<Item, List<IInscriberRecipe>> recipesByInput;
+	private final Map<Item, List<IInscriberRecipe>> recipesByOptional;
 
 	public InscriberRegistry()
 	{
 		this.inputs = new HashSet<>();
 		this.optionals = new HashSet<>();
 		this.recipes = new HashSet<>();
+		this.recipesByInput = new HashMap<>();
+		this.recipesByOptional = new HashMap<>();
 	}
 
 	@Nonnull
@@ -78,6 +86,35 @@ public final class InscriberRegistry implements IInscriberRegistry
 		return this.inputs;
 	}
 
+	@Nonnull
+	@Override
+	public Collection<IInscriberRecipe> getRecipesForInput( @Nonnull final ItemStack input )
+	{
+		return this.lookup( this.recipesByInput, input );
+	}
+
+	@Nonnull
+	@Override
+	public Collection<IInscriberRecipe> getRecipesForOptional( @Nonnull final ItemStack optional )
+	{
+		return this.lookup( this.recipesByOptional, optional );
+	}
+
+	@Override
+	public boolean isOptional( @Nonnull final ItemStack optional )
+	{
+		for( final IInscriberRecipe recipe : this.getRecipesForOptional( optional ) )
+		{
+			if( Platform.itemComparisons().isSameItem( optional, recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) || Platform.itemComparisons()
+					.isSameItem( optional, recipe.getBottomOptional().orElse( ItemStack.EMPTY ) ) )
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	@Nonnull
 	@Override
 	public IInscriberRecipeBuilder builder()
@@ -92,10 +129,7 @@ public final class InscriberRegistry implements IInscriberRegistry
 
 		if( this.recipes.add( recipe ) )
 		{
-			recipe.getTopOptional().ifPresent( this.optionals::add );
-			recipe.getBottomOptional().ifPresent( this.optionals::add );
-
-			this.inputs.addAll( recipe.getInputs() );
+			this.index( recipe );
 
 			return true;
 		}
@@ -120,9 +154,69 @@ public final class InscriberRegistry implements IInscriberRegistry
 			}
 		}
 
+		if( changed )
+		{
+			this.rebuildIndices();
+		}
+
 		return changed;
 	}
 
+	private Collection<IInscriberRecipe> lookup( final Map<Item, List<IInscriberRecipe>> index, final ItemStack stack )
+	{
+		if( stack.isEmpty() )
+		{
+			return Collections.emptyList();
+		}
+
+		final List<IInscriberRecipe> found = index.get( stack.getItem() );
+
+		return found == null ? Collections.emptyList() : Collections.unmodifiableList( found );
+	}
+
+	private void index( final IInscriberRecipe recipe )
+	{
+		recipe.getTopOptional().ifPresent( this.optionals::add );
+		recipe.getBottomOptional().ifPresent( this.optionals::add );
+
+		this.inputs.addAll( recipe.getInputs() );
+
+		final Set<Item> inputItems = new HashSet<>();
+		for( final ItemStack input : recipe.getInputs() )
+		{
+			inputItems.add( input.getItem() );
+		}
+		for( final Item item : inputItems )
+		{
+			this.recipesByInput.computeIfAbsent( item, k -> new ArrayList<>() ).add( recipe );
+		}
+
+		final Set<Item> optionalItems = new HashSet<>();
+		recipe.getTopOptional().ifPresent( top -> optionalItems.add( top.getItem() ) );
+		recipe.getBottomOptional().ifPresent( bottom -> optionalItems.add( bottom.getItem() ) );
+		for( final Item item : optionalItems )
+		{
+			this.recipesByOptional.computeIfAbsent( item, k -> new ArrayList<>() ).add( recipe );
+		}
+	}
+
+	/**
+	 * The optionals and inputs are plain stacks without equality, so removed recipes can only be dropped by rebuilding
+	 * everything from the remaining ones.
+	 */
+	private void rebuildIndices()
+	{
+		this.optionals.clear();
+		this.inputs.clear();
+		this.recipesByInput.clear();
+		this.recipesByOptional.clear();
+
+		for( final IInscriberRecipe recipe : this.recipes )
+		{
+			this.index( recipe );
+		}
+	}
+
 	/**
 	 * Internal {@link IInscriberRecipeBuilder} implementation.
 	 * Needs to be adapted to represent a correct {@link IInscriberRecipe}
@@ -45,10 +45,12 @@ import appeng.client.gui.implementations.GuiCraftConfirm;
 import appeng.client.gui.implementations.GuiCraftingCPU;
 import appeng.client.gui.implementations.GuiMEMonitorable;
 import appeng.client.gui.implementations.GuiNetworkStatus;
+import appeng.container.implementations.ContainerMEMonitorable;
 import appeng.core.AELog;
 import appeng.core.sync.AppEngPacket;
 import appeng.core.sync.network.INetworkInfo;
 import appeng.util.item.AEItemStack;
+import appeng.util.item.ItemDictionary;
 
 
 public class PacketMEInventoryUpdate extends AppEngPacket
@@ -57,12 +59,21 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 	private static final int OPERATION_BYTE_LIMIT = 2 * 1024;
 	private static final int TEMP_BUFFER_SIZE = 1024;
 	private static final int STREAM_MASK = 0xff;
+	private static final int NO_DICTIONARY = -1;
+	private static final byte DEFINITION = 1;
+	private static final byte CRAFTABLE = 2;
 
 	// input.
 	@Nullable
 	private final List<IAEItemStack> list;
+	// ids which still have to be resolved by the dictionary of the open container.
+	@Nullable
+	private final List<DictionaryEntry> entries;
 	// output...
 	private final byte ref;
+	private final int windowId;
+	@Nullable
+	private final ItemDictionary dictionary;
 
 	@Nullable
 	private final ByteBuf data;
@@ -78,7 +89,10 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 		this.data = null;
 		this.compressFrame = null;
 		this.list = new ArrayList<>();
+		this.dictionary = null;
 		this.ref = stream.readByte();
+		this.windowId = stream.readInt();
+		this.entries = this.windowId == NO_DICTIONARY ? null : new ArrayList<>();
 
 		// int originalBytes = stream.readableBytes();
 
@@ -111,11 +125,18 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 
 			while( uncompressed.readableBytes() > 0 )
 			{
-				this.list.add( AEItemStack.fromPacket( uncompressed ) );
+				if( this.entries == null )
+				{
+					this.list.add( AEItemStack.fromPacket( uncompressed ) );
+				}
+				else
+				{
+					this.entries.add( new DictionaryEntry( uncompressed ) );
+				}
 			}
 		}
 
-		this.empty = this.list.isEmpty();
+		this.empty = this.entries == null ? this.list.isEmpty() : this.entries.isEmpty();
 
 	}
 
@@ -127,11 +148,28 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 
 	// api
 	public PacketMEInventoryUpdate( final byte ref ) throws IOException
+	{
+		this( ref, NO_DICTIONARY, null );
+	}
+
+	/**
+	 * Only sends the id of types which were already sent through the dictionary, which has to belong to the container
+	 * with the given window id.
+	 */
+	public PacketMEInventoryUpdate( final int windowId, final ItemDictionary dictionary ) throws IOException
+	{
+		this( (byte) 0, windowId, dictionary );
+	}
+
+	private PacketMEInventoryUpdate( final byte ref, final int windowId, @Nullable final ItemDictionary dictionary ) throws IOException
 	{
 		this.ref = ref;
+		this.windowId = windowId;
+		this.dictionary = dictionary;
 		this.data = Unpooled.buffer( OPERATION_BYTE_LIMIT );
 		this.data.writeInt( this.getPacketID() );
 		this.data.writeByte( this.ref );
+		this.data.writeInt( this.windowId );
 
 		this.compressFrame = new GZIPOutputStream( new OutputStream()
 		{
@@ -143,6 +181,7 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 		} );
 
 		this.list = null;
+		this.entries = null;
 	}
 
 	@Override
@@ -151,6 +190,27 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 	{
 		final GuiScreen gs = Minecraft.getMinecraft().currentScreen;
 
+		if( this.entries != null )
+		{
+			// drop updates for a container which is no longer open, its ids mean nothing to the current one.
+			if( player.openContainer.windowId != this.windowId || !( player.openContainer instanceof ContainerMEMonitorable ) )
+			{
+				return;
+			}
+
+			final ItemDictionary clientDictionary = ( (ContainerMEMonitorable) player.openContainer ).getItemDictionary();
+
+			for( final DictionaryEntry entry : this.entries )
+			{
+				final IAEItemStack is = entry.resolve( clientDictionary );
+
+				if( is != null )
+				{
+					this.list.add( is );
+				}
+			}
+		}
+
 		if( gs instanceof GuiCraftConfirm )
 		{
 			( (GuiCraftConfirm) gs ).postUpdate( this.list, this.ref );
@@ -194,7 +254,25 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 	public void appendItem( final IAEItemStack is ) throws IOException, BufferOverflowException
 	{
 		final ByteBuf tmp = Unpooled.buffer( OPERATION_BYTE_LIMIT );
-		is.writeToPacket( tmp );
+		final int id = this.dictionary == null ? NO_DICTIONARY : this.dictionary.getId( is );
+
+		if( this.dictionary == null )
+		{
+			is.writeToPacket( tmp );
+		}
+		else if( id == NO_DICTIONARY )
+		{
+			tmp.writeInt( this.dictionary.getNextId() );
+			tmp.writeByte( DEFINITION );
+			is.writeToPacket( tmp );
+		}
+		else
+		{
+			tmp.writeInt( id );
+			tmp.writeByte( is.isCraftable() ? CRAFTABLE : 0 );
+			tmp.writeLong( is.getStackSize() );
+			tmp.writeLong( is.getCountRequestable() );
+		}
 
 		this.compressFrame.flush();
 		if( this.writtenBytes + tmp.readableBytes() > UNCOMPRESSED_PACKET_BYTE_LIMIT )
@@ -206,6 +284,12 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 			this.writtenBytes += tmp.readableBytes();
 			this.compressFrame.write( tmp.array(), 0, tmp.readableBytes() );
 			this.empty = false;
+
+			// only known to the client once it was written.
+			if( this.dictionary != null && id == NO_DICTIONARY )
+			{
+				this.dictionary.assign( is );
+			}
 		}
 	}
 
@@ -218,4 +302,46 @@ public class PacketMEInventoryUpdate extends AppEngPacket
 	{
 		return this.empty;
 	}
+
+	private static class DictionaryEntry
+	{
+
+		private final int id;
+		private final byte flags;
+		@Nullable
+		private final AEItemStack definition;
+		private final long stackSize;
+		private final long countRequestable;
+
+		private DictionaryEntry( final ByteBuf data )
+		{
+			this.id = data.readInt();
+			this.flags = data.readByte();
+
+			if( ( this.flags & DEFINITION ) != 0 )
+			{
+				this.definition = AEItemStack.fromPacket( data );
+				this.stackSize = 0;
+				this.countRequestable = 0;
+			}
+			else
+			{
+				this.definition = null;
+				this.stackSize = data.readLong();
+				this.countRequestable = data.readLong();
+			}
+		}
+
+		@Nullable
+		private IAEItemStack resolve( final ItemDictionary dictionary )
+		{
+			if( ( this.flags & DEFINITION ) != 0 )
+			{
+				dictionary.define( this.id, this.definition );
+				return this.definition;
+			}
+
+			return dictionary.resolve( this.id, this.stackSize, this.countRequestable, ( this.flags & CRAFTABLE ) != 0 );
+		}
+	}
 }
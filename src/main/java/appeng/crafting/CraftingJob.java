@@ -141,10 +141,10 @@ public class CraftingJob implements Runnable, ICraftingJob
 
 				final Stopwatch timer = Stopwatch.createStarted();
 
-				final MECraftingInventory craftingInventory = new MECraftingInventory( this.original, true, false, true );
+				final MECraftingInventory craftingInventory = MECraftingInventory.layer( this.original, true, false, true );
 				craftingInventory.ignore( this.output );
 
-				this.availableCheck = new MECraftingInventory( this.original, false, false, false );
+				this.availableCheck = MECraftingInventory.layer( this.original, false, false, false );
 				this.getTree().request( craftingInventory, this.output.getStackSize(), this.actionSrc );
 				this.getTree().dive( this );
 
@@ -165,10 +165,10 @@ public class CraftingJob implements Runnable, ICraftingJob
 				try
 				{
 					final Stopwatch timer = Stopwatch.createStarted();
-					final MECraftingInventory craftingInventory = new MECraftingInventory( this.original, true, false, true );
+					final MECraftingInventory craftingInventory = MECraftingInventory.layer( this.original, true, false, true );
 					craftingInventory.ignore( this.output );
 
-					this.availableCheck = new MECraftingInventory( this.original, false, false, false );
+					this.availableCheck = MECraftingInventory.layer( this.original, false, false, false );
 
 					this.getTree().setSimulate();
 					this.getTree().request( craftingInventory, this.output.getStackSize(), this.actionSrc );
@@ -309,16 +309,22 @@ public class CraftingJob implements Runnable, ICraftingJob
 		return this.world;
 	}
 
+	IActionSource getActionSource()
+	{
+		return this.actionSrc;
+	}
+
 	/**
-	 * returns true if this needs more simulation.
+	 * Lets the calculation continue on its own thread, use {@link #awaitSimulation()} to wait until it paused again.
+	 * Jobs share recipes, crafting caches and the world without any locking, so only one of them may be running.
 	 *
-	 * @param milli milliseconds of simulation
+	 * @param time simulation time in the same unit as the crafting calculation time per tick
 	 *
 	 * @return true if this needs more simulation
 	 */
-	public boolean simulateFor( final int milli )
+	public boolean startSimulation( final int time )
 	{
-		this.time = milli;
+		this.time = time;
 
 		synchronized( this.monitor )
 		{
@@ -331,9 +337,20 @@ public class CraftingJob implements Runnable, ICraftingJob
 			this.watch.start();
 			this.running = true;
 
-			AELog.craftingDebug( "main thread is now going to sleep" );
-
 			this.monitor.notify();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Blocks until the calculation paused or finished after {@link #startSimulation(int)}.
+	 */
+	public void awaitSimulation()
+	{
+		synchronized( this.monitor )
+		{
+			AELog.craftingDebug( "main thread is now going to sleep" );
 
 			while( this.running )
 			{
@@ -348,8 +365,6 @@ public class CraftingJob implements Runnable, ICraftingJob
 
 			AELog.craftingDebug( "main thread is now active" );
 		}
-
-		return true;
 	}
 
 	void addBytes( final long crafts )
@@ -0,0 +1,236 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingJob;
+import appeng.api.networking.security.IActionSource;
+import appeng.core.AEConfig;
+import appeng.core.AELog;
+import appeng.core.worlddata.WorldData;
+
+
+/**
+ * Runs crafting calculations on a pool with a fixed number of threads.
+ *
+ * Waiting jobs are ordered by how many jobs their owner (the requesting player, or the owner of the requesting
+ * machine) already has queued or running, so a single player queueing many requests can not starve everyone else.
+ */
+public final class CraftingJobScheduler
+{
+
+	private static final String LOG_SCHEDULER_STATS = "Crafting calculation finished after %s ms (%s ms queued), %s jobs queued, %s running";
+
+	private static final CraftingJobScheduler INSTANCE = new CraftingJobScheduler();
+
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicInteger running = new AtomicInteger();
+	private final AtomicLong finished = new AtomicLong();
+	private final AtomicLong totalWallTime = new AtomicLong();
+	private final Map<Object, Integer> jobsPerOwner = new HashMap<>();
+	private ThreadPoolExecutor pool;
+
+	private CraftingJobScheduler()
+	{
+	}
+
+	public static CraftingJobScheduler instance()
+	{
+		return INSTANCE;
+	}
+
+	public Future<ICraftingJob> submit( final CraftingJob job )
+	{
+		final Object owner = getOwner( job.getActionSource() );
+		final int share;
+
+		synchronized( this.jobsPerOwner )
+		{
+			share = this.jobsPerOwner.getOrDefault( owner, 0 );
+			this.jobsPerOwner.put( owner, share + 1 );
+		}
+
+		final ScheduledJob task = new ScheduledJob( job, owner, share, this.sequence.getAndIncrement() );
+		this.getPool().execute( task );
+		return task;
+	}
+
+	/**
+	 * @return the number of calculations waiting for a free thread.
+	 */
+	public int getQueueDepth()
+	{
+		return this.pool == null ? 0 : this.pool.getQueue().size();
+	}
+
+	/**
+	 * @return the number of calculations which have a thread, including ones waiting for their next time slice.
+	 */
+	public int getRunningJobs()
+	{
+		return this.running.get();
+	}
+
+	/**
+	 * @return the average time in milliseconds between submitting and finishing a calculation.
+	 */
+	public long getAverageWallTime()
+	{
+		final long count = this.finished.get();
+		return count == 0 ? 0 : this.totalWallTime.get() / count;
+	}
+
+	private synchronized ThreadPoolExecutor getPool()
+	{
+		if( this.pool == null )
+		{
+			final int configured = AEConfig.instance().getCraftingCalculatorThreads();
+			final int threads = configured > 0 ? configured : Math.max( 1, Runtime.getRuntime().availableProcessors() - 1 );
+			final AtomicInteger threadId = new AtomicInteger();
+			final ThreadFactory factory = ar ->
+			{
+				final Thread thread = new Thread( ar, "AE Crafting Calculator #" + threadId.incrementAndGet() );
+				thread.setDaemon( true );
+				return thread;
+			};
+
+			this.pool = new ThreadPoolExecutor( threads, threads, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(), factory );
+			this.pool.allowCoreThreadTimeOut( true );
+		}
+
+		return this.pool;
+	}
+
+	private void onFinished( final ScheduledJob task )
+	{
+		synchronized( this.jobsPerOwner )
+		{
+			final int remaining = this.jobsPerOwner.getOrDefault( task.owner, 1 ) - 1;
+
+			if( remaining <= 0 )
+			{
+				this.jobsPerOwner.remove( task.owner );
+			}
+			else
+			{
+				this.jobsPerOwner.put( task.owner, remaining );
+			}
+		}
+
+		final long now = System.nanoTime();
+		final long wallTime = TimeUnit.NANOSECONDS.toMillis( now - task.submitted );
+
+		this.finished.incrementAndGet();
+		this.totalWallTime.addAndGet( wallTime );
+
+		if( AELog.isCraftingLogEnabled() )
+		{
+			final long started = task.started == 0 ? now : task.started;
+			AELog.crafting( LOG_SCHEDULER_STATS, wallTime, TimeUnit.NANOSECONDS.toMillis( started - task.submitted ), this.getQueueDepth(),
+					this.running.get() );
+		}
+	}
+
+	/**
+	 * Players and their machines share one key, the AE player id.
+	 */
+	private static Object getOwner( final IActionSource src )
+	{
+		if( src.player().isPresent() )
+		{
+			return WorldData.instance().playerData().getPlayerID( src.player().get().getGameProfile() );
+		}
+
+		if( src.machine().isPresent() )
+		{
+			final IGridNode node = src.machine().get().getActionableNode();
+
+			if( node != null )
+			{
+				return node.getPlayerID();
+			}
+		}
+
+		return src;
+	}
+
+	private class ScheduledJob extends FutureTask<ICraftingJob> implements Comparable<ScheduledJob>
+	{
+
+		private final Object owner;
+		private final int share;
+		private final long order;
+		private final long submitted = System.nanoTime();
+		private volatile long started = 0;
+
+		private ScheduledJob( final CraftingJob job, final Object owner, final int share, final long order )
+		{
+			super( job, job );
+			this.owner = owner;
+			this.share = share;
+			this.order = order;
+		}
+
+		@Override
+		public void run()
+		{
+			this.started = System.nanoTime();
+			CraftingJobScheduler.this.running.incrementAndGet();
+
+			try
+			{
+				super.run();
+			}
+			finally
+			{
+				CraftingJobScheduler.this.running.decrementAndGet();
+			}
+		}
+
+		@Override
+		protected void done()
+		{
+			// also called for jobs cancelled before they got a thread.
+			CraftingJobScheduler.this.onFinished( this );
+		}
+
+		@Override
+		public int compareTo( final ScheduledJob other )
+		{
+			if( this.share != other.share )
+			{
+				return Integer.compare( this.share, other.share );
+			}
+
+			return Long.compare( this.order, other.order );
+		}
+	}
+}
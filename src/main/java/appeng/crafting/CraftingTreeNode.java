@@ -256,7 +256,7 @@ public class CraftingTreeNode
 				{
 					while( pro.possible && l > 0 )
 					{
-						final MECraftingInventory subInv = new MECraftingInventory( inv, true, true, true );
+						final MECraftingInventory subInv = MECraftingInventory.layer( inv, true, true, true );
 						pro.request( subInv, 1, src );
 
 						this.what.setStackSize( l );
@@ -0,0 +1,239 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.google.common.collect.Iterators;
+
+import appeng.api.AEApi;
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+
+
+/**
+ * Copy-on-write view of the item list of a parent {@link MECraftingInventory}.
+ *
+ * Only types which are modified through this list are copied, everything else is read from the parent. The parent
+ * must not change while this layer is in use, changes are moved back to it by {@link MECraftingInventory#commit}.
+ *
+ * Like {@link appeng.util.inv.ItemListIgnoreCrafting} this list never stores the craftable flag.
+ */
+class LayeredItemList implements IItemList<IAEItemStack>
+{
+
+	private final IItemList<IAEItemStack> parent;
+
+	// the local copies of every touched type, including the ones which were reduced to 0.
+	private final Map<IAEItemStack, IAEItemStack> overrides = new HashMap<>();
+
+	// types the parent does not know about, only used to find them again by iteration or fuzzy search.
+	private final IItemList<IAEItemStack> added;
+
+	LayeredItemList( final IItemList<IAEItemStack> parent )
+	{
+		this( parent, AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList() );
+	}
+
+	LayeredItemList( final IItemList<IAEItemStack> parent, final IItemList<IAEItemStack> added )
+	{
+		this.parent = parent;
+		this.added = added;
+	}
+
+	/**
+	 * @return the local copy of the given type, which can be modified, or null if neither this layer nor the parent
+	 * contain it.
+	 */
+	IAEItemStack touch( final IAEItemStack what )
+	{
+		final IAEItemStack local = this.overrides.get( what );
+		if( local != null )
+		{
+			return local;
+		}
+
+		final IAEItemStack inherited = this.parent.findPrecise( what );
+		if( inherited == null )
+		{
+			return null;
+		}
+
+		final IAEItemStack copy = inherited.copy().setCraftable( false );
+		this.overrides.put( copy, copy );
+		return copy;
+	}
+
+	private IAEItemStack touchOrCreate( final IAEItemStack what )
+	{
+		final IAEItemStack local = this.touch( what );
+		if( local != null )
+		{
+			return local;
+		}
+
+		final IAEItemStack created = what.copy().reset();
+		this.overrides.put( created, created );
+
+		// the marker has to stay meaningful, otherwise iterating the list would remove it again.
+		this.added.add( what.copy().reset().setStackSize( 1 ) );
+
+		return created;
+	}
+
+	@Override
+	public void add( final IAEItemStack option )
+	{
+		if( option == null )
+		{
+			return;
+		}
+
+		final IAEItemStack local = this.touchOrCreate( option );
+		local.add( option.isCraftable() ? option.copy().setCraftable( false ) : option );
+	}
+
+	@Override
+	public IAEItemStack findPrecise( final IAEItemStack i )
+	{
+		if( i == null )
+		{
+			return null;
+		}
+
+		final IAEItemStack local = this.overrides.get( i );
+		if( local != null )
+		{
+			return local;
+		}
+
+		return this.parent.findPrecise( i );
+	}
+
+	@Override
+	public Collection<IAEItemStack> findFuzzy( final IAEItemStack input, final FuzzyMode fuzzy )
+	{
+		final Collection<IAEItemStack> inherited = this.parent.findFuzzy( input, fuzzy );
+
+		if( this.overrides.isEmpty() )
+		{
+			return inherited;
+		}
+
+		final Collection<IAEItemStack> out = new ArrayList<>( inherited.size() );
+
+		for( final IAEItemStack is : inherited )
+		{
+			final IAEItemStack local = this.overrides.get( is );
+			out.add( local != null ? local : is );
+		}
+
+		for( final IAEItemStack marker : this.added.findFuzzy( input, fuzzy ) )
+		{
+			out.add( this.overrides.get( marker ) );
+		}
+
+		return out;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return !this.iterator().hasNext();
+	}
+
+	@Override
+	public void addStorage( final IAEItemStack option )
+	{
+		if( option == null )
+		{
+			return;
+		}
+
+		this.touchOrCreate( option ).incStackSize( option.getStackSize() );
+	}
+
+	@Override
+	public void addCrafting( final IAEItemStack option )
+	{
+		// nothing.
+	}
+
+	@Override
+	public void addRequestable( final IAEItemStack option )
+	{
+		if( option == null )
+		{
+			return;
+		}
+
+		final IAEItemStack local = this.touchOrCreate( option );
+		local.setCountRequestable( local.getCountRequestable() + option.getCountRequestable() );
+	}
+
+	@Override
+	public IAEItemStack getFirstItem()
+	{
+		final Iterator<IAEItemStack> i = this.iterator();
+		return i.hasNext() ? i.next() : null;
+	}
+
+	/**
+	 * Like {@link appeng.util.item.ItemList#size()} this counts the used up types until they are removed by iterating
+	 * the parent, so it is only an upper bound of the types returned by the iterator.
+	 */
+	@Override
+	public int size()
+	{
+		return this.parent.size() + this.added.size();
+	}
+
+	@Override
+	public Iterator<IAEItemStack> iterator()
+	{
+		final Iterator<IAEItemStack> inherited = Iterators.transform( this.parent.iterator(), is ->
+		{
+			final IAEItemStack local = this.overrides.get( is );
+			return local != null ? local : is;
+		} );
+
+		final Iterator<IAEItemStack> created = Iterators.transform( this.added.iterator(), this.overrides::get );
+
+		return Iterators.filter( Iterators.concat( inherited, created ), IAEItemStack::isMeaningful );
+	}
+
+	@Override
+	public void resetStatus()
+	{
+		final Collection<IAEItemStack> current = new ArrayList<>();
+		Iterators.addAll( current, this.iterator() );
+
+		for( final IAEItemStack is : current )
+		{
+			this.touch( is ).reset();
+		}
+	}
+}
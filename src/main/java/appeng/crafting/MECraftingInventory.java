@@ -19,6 +19,8 @@
 package appeng.crafting;
 
 
+import com.google.common.base.Preconditions;
+
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
 import appeng.api.networking.security.IActionSource;
@@ -38,6 +40,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 
 	private final IMEInventory<IAEItemStack> target;
 	private final IItemList<IAEItemStack> localCache;
+	private final LayeredItemList layer;
 
 	private final boolean logExtracted;
 	private final IItemList<IAEItemStack> extractedCache;
@@ -48,6 +51,10 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 	private final boolean logMissing;
 	private final IItemList<IAEItemStack> missingCache;
 
+	// counts the changes to this inventory, a layer on top of it is only valid as long as it does not change.
+	private int modifications = 0;
+	private final int parentModifications;
+
 	public MECraftingInventory()
 	{
 		this.localCache = new ItemListIgnoreCrafting<>( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList() );
@@ -58,6 +65,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 		this.logInjections = false;
 		this.logMissing = false;
 		this.target = null;
+		this.layer = null;
+		this.parentModifications = 0;
 		this.par = null;
 	}
 
@@ -98,6 +107,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 		this.localCache = this.target
 				.getAvailableItems( new ItemListIgnoreCrafting<>( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList() ) );
 
+		this.layer = null;
+		this.parentModifications = 0;
 		this.par = parent;
 	}
 
@@ -141,6 +152,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 			this.localCache.add( target.extractItems( is, Actionable.SIMULATE, src ) );
 		}
 
+		this.layer = null;
+		this.parentModifications = 0;
 		this.par = null;
 	}
 
@@ -179,6 +192,61 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 		}
 
 		this.localCache = target.getAvailableItems( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList() );
+		this.layer = null;
+		this.parentModifications = 0;
+		this.par = null;
+	}
+
+	/**
+	 * Creates a layer on top of another crafting inventory, which only records the items it changes instead of
+	 * copying the whole content of the parent. {@link #commit(IActionSource)} applies the logged changes to the
+	 * parent.
+	 *
+	 * The parent must not be modified while the layer is in use, using the layer afterwards throws an
+	 * {@link IllegalStateException}.
+	 */
+	public static MECraftingInventory layer( final MECraftingInventory parent, final boolean logExtracted, final boolean logInjections, final boolean logMissing )
+	{
+		return new MECraftingInventory( parent, new LayeredItemList( parent.getItemList() ), logExtracted, logInjections, logMissing );
+	}
+
+	private MECraftingInventory( final MECraftingInventory target, final LayeredItemList layer, final boolean logExtracted, final boolean logInjections, final boolean logMissing )
+	{
+		this.target = target;
+		this.logExtracted = logExtracted;
+		this.logInjections = logInjections;
+		this.logMissing = logMissing;
+
+		if( logMissing )
+		{
+			this.missingCache = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
+		}
+		else
+		{
+			this.missingCache = null;
+		}
+
+		if( logExtracted )
+		{
+			this.extractedCache = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
+		}
+		else
+		{
+			this.extractedCache = null;
+		}
+
+		if( logInjections )
+		{
+			this.injectedCache = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
+		}
+		else
+		{
+			this.injectedCache = null;
+		}
+
+		this.layer = layer;
+		this.localCache = layer;
+		this.parentModifications = target.modifications;
 		this.par = null;
 	}
 
@@ -190,8 +258,12 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 			return null;
 		}
 
+		this.checkParent();
+
 		if( mode == Actionable.MODULATE )
 		{
+			this.modifications++;
+
 			if( this.logInjections )
 			{
 				this.injectedCache.add( input );
@@ -210,12 +282,19 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 			return null;
 		}
 
-		final IAEItemStack list = this.localCache.findPrecise( request );
+		this.checkParent();
+
+		final IAEItemStack list = mode == Actionable.MODULATE ? this.findForUpdate( request ) : this.localCache.findPrecise( request );
 		if( list == null || list.getStackSize() == 0 )
 		{
 			return null;
 		}
 
+		if( mode == Actionable.MODULATE )
+		{
+			this.modifications++;
+		}
+
 		if( list.getStackSize() >= request.getStackSize() )
 		{
 			if( mode == Actionable.MODULATE )
@@ -248,6 +327,8 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 	@Override
 	public IItemList<IAEItemStack> getAvailableItems( final IItemList<IAEItemStack> out )
 	{
+		this.checkParent();
+
 		for( final IAEItemStack is : this.localCache )
 		{
 			out.add( is );
@@ -264,13 +345,16 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 
 	public IItemList<IAEItemStack> getItemList()
 	{
+		this.checkParent();
 		return this.localCache;
 	}
 
 	public boolean commit( final IActionSource src )
 	{
+		this.checkParent();
+
 		final IItemList<IAEItemStack> added = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
-		final IItemList<IAEItemStack> pulled = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
+		IItemList<IAEItemStack> pulled = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
 		boolean failed = false;
 
 		if( this.logInjections )
@@ -300,10 +384,11 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 
 		if( this.logExtracted )
 		{
+			pulled = this.target.extractBatch( this.extractedCache, Actionable.MODULATE, src );
+
 			for( final IAEItemStack extra : this.extractedCache )
 			{
-				IAEItemStack result = null;
-				pulled.add( result = this.target.extractItems( extra, Actionable.MODULATE, src ) );
+				final IAEItemStack result = pulled.findPrecise( extra );
 
 				if( result == null || result.getStackSize() != extra.getStackSize() )
 				{
@@ -320,10 +405,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 				this.target.extractItems( is, Actionable.MODULATE, src );
 			}
 
-			for( final IAEItemStack is : pulled )
-			{
-				this.target.injectItems( is, Actionable.MODULATE, src );
-			}
+			this.target.injectBatch( pulled, Actionable.MODULATE, src );
 
 			return false;
 		}
@@ -344,9 +426,31 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack>
 		this.missingCache.add( extra );
 	}
 
+	private void checkParent()
+	{
+		if( this.layer != null )
+		{
+			Preconditions.checkState( ( (MECraftingInventory) this.target ).modifications == this.parentModifications,
+					"The parent of a layered crafting inventory was modified while the layer was in use" );
+		}
+	}
+
+	private IAEItemStack findForUpdate( final IAEItemStack what )
+	{
+		if( this.layer != null )
+		{
+			return this.layer.touch( what );
+		}
+
+		return this.localCache.findPrecise( what );
+	}
+
 	void ignore( final IAEItemStack what )
 	{
-		final IAEItemStack list = this.localCache.findPrecise( what );
+		this.checkParent();
+		this.modifications++;
+
+		final IAEItemStack list = this.findForUpdate( what );
 		if( list != null )
 		{
 			list.setStackSize( 0 );
@@ -96,7 +96,7 @@ public class PartFluidFormationPlane extends PartAbstractFormationPlane<IAEFluid
 
 		try
 		{
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException e )
 		{
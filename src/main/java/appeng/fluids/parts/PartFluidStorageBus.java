@@ -166,30 +166,14 @@ public class PartFluidStorageBus extends PartSharedStorageBus implements IMEMoni
 		final boolean fullReset = this.resetCacheLogic == 2;
 		this.resetCacheLogic = 0;
 
-		final IMEInventory<IAEFluidStack> in = this.getInternalHandler();
-		IItemList<IAEFluidStack> before = AEApi.instance().storage().getStorageChannel( IFluidStorageChannel.class ).createList();
-		if( in != null )
-		{
-			before = in.getAvailableItems( before );
-		}
-
 		this.cached = false;
 		if( fullReset )
 		{
 			this.handlerHash = 0;
 		}
 
-		final IMEInventory<IAEFluidStack> out = this.getInternalHandler();
-
-		if( in != out )
-		{
-			IItemList<IAEFluidStack> after = AEApi.instance().storage().getStorageChannel( IFluidStorageChannel.class ).createList();
-			if( out != null )
-			{
-				after = out.getAvailableItems( after );
-			}
-			Platform.postListChanges( before, after, this, this.source );
-		}
+		// a new handler posts a cell array update, the grid posts the difference of the contents.
+		this.getInternalHandler();
 	}
 
 	@Override
@@ -372,7 +356,7 @@ public class PartFluidStorageBus extends PartSharedStorageBus implements IMEMoni
 		try
 		{
 			// force grid to update handlers...
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException ignore )
 		{
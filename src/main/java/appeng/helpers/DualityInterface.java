@@ -61,6 +61,7 @@ import appeng.api.implementations.tiles.ICraftingMachine;
 import appeng.api.networking.GridFlags;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingBatchMedium;
 import appeng.api.networking.crafting.ICraftingLink;
 import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.networking.crafting.ICraftingProvider;
@@ -90,6 +91,7 @@ import appeng.api.util.IConfigManager;
 import appeng.capabilities.Capabilities;
 import appeng.core.settings.TickRates;
 import appeng.me.GridAccessException;
+import appeng.me.cache.InterfaceTerminalCache;
 import appeng.me.helpers.AENetworkProxy;
 import appeng.me.helpers.MachineSource;
 import appeng.me.storage.MEMonitorIInventory;
@@ -110,7 +112,7 @@ import appeng.util.inv.InvOperation;
 import appeng.util.item.AEItemStack;
 
 
-public class DualityInterface implements IGridTickable, IStorageMonitorable, IInventoryDestination, IAEAppEngInventory, IConfigManagerHost, ICraftingProvider, IUpgradeableHost
+public class DualityInterface implements IGridTickable, IStorageMonitorable, IInventoryDestination, IAEAppEngInventory, IConfigManagerHost, ICraftingProvider, ICraftingBatchMedium, IUpgradeableHost
 {
 
 	public static final int NUMBER_OF_STORAGE_SLOTS = 9;
@@ -172,6 +174,11 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 	@Override
 	public void onChangeInventory( final IItemHandler inv, final int slot, final InvOperation mc, final ItemStack removed, final ItemStack added )
 	{
+		if( inv == this.patterns )
+		{
+			this.updateInterfaceTerminals();
+		}
+
 		if( this.isWorking == slot )
 		{
 			return;
@@ -455,6 +462,8 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
 	public void notifyNeighbors()
 	{
+		this.updateInterfaceTerminals();
+
 		if( this.gridProxy.isActive() )
 		{
 			try
@@ -861,9 +870,28 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 		{
 			this.cancelCrafting();
 		}
+
+		if( settingName == Settings.INTERFACE_TERMINAL )
+		{
+			this.updateInterfaceTerminals();
+		}
+
 		this.iHost.saveChanges();
 	}
 
+	private void updateInterfaceTerminals()
+	{
+		try
+		{
+			final InterfaceTerminalCache cache = this.gridProxy.getGrid().getCache( InterfaceTerminalCache.class );
+			cache.markChanged( this.iHost );
+		}
+		catch( final GridAccessException e )
+		{
+			// :P
+		}
+	}
+
 	private void cancelCrafting()
 	{
 		this.craftingTracker.cancel();
@@ -967,6 +995,116 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 		return false;
 	}
 
+	@Override
+	public int pushPatternBatch( final ICraftingPatternDetails patternDetails, final int copies )
+	{
+		// blocking mode sends one copy at a time, crafting patterns need a table.
+		if( patternDetails.isCraftable() || this.isBlocking() || this.hasItemsToSend() || !this.gridProxy.isActive() || !this.craftingList
+				.contains( patternDetails ) )
+		{
+			return 0;
+		}
+
+		final TileEntity tile = this.iHost.getTileEntity();
+		final World w = tile.getWorld();
+		final IAEItemStack[] inputs = patternDetails.getCondensedInputs();
+
+		final EnumSet<EnumFacing> possibleDirections = this.iHost.getTargets();
+		for( final EnumFacing s : possibleDirections )
+		{
+			final TileEntity te = w.getTileEntity( tile.getPos().offset( s ) );
+			if( te instanceof IInterfaceHost )
+			{
+				try
+				{
+					if( ( (IInterfaceHost) te ).getInterfaceDuality().sameGrid( this.gridProxy.getGrid() ) )
+					{
+						continue;
+					}
+				}
+				catch( final GridAccessException e )
+				{
+					continue;
+				}
+			}
+
+			if( te instanceof ICraftingMachine && ( (ICraftingMachine) te ).acceptsPlans() )
+			{
+				continue;
+			}
+
+			final InventoryAdaptor ad = InventoryAdaptor.getAdaptor( te, s.getOpposite() );
+			if( ad != null )
+			{
+				final int accepted = this.getAcceptedCopies( ad, inputs, copies );
+
+				if( accepted > 0 )
+				{
+					for( final IAEItemStack input : inputs )
+					{
+						final ItemStack added = ad.addItems( this.multiply( input, accepted ) );
+						this.addToSendList( added );
+					}
+					this.pushItemsOut( possibleDirections );
+					return accepted;
+				}
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Largest number of copies the adaptor accepts, found by bisection.
+	 */
+	private int getAcceptedCopies( final InventoryAdaptor ad, final IAEItemStack[] inputs, final int copies )
+	{
+		int low = 0;
+		int high = copies;
+
+		// a clamped stack size would be accepted, but only part of the last copy would be inserted.
+		for( final IAEItemStack input : inputs )
+		{
+			high = (int) Math.min( high, Integer.MAX_VALUE / Math.max( 1, input.getStackSize() ) );
+		}
+
+		while( low < high )
+		{
+			final int mid = low + ( high - low + 1 ) / 2;
+
+			if( this.acceptsCopies( ad, inputs, mid ) )
+			{
+				low = mid;
+			}
+			else
+			{
+				high = mid - 1;
+			}
+		}
+
+		return low;
+	}
+
+	private boolean acceptsCopies( final InventoryAdaptor ad, final IAEItemStack[] inputs, final int copies )
+	{
+		for( final IAEItemStack input : inputs )
+		{
+			if( !ad.simulateAdd( this.multiply( input, copies ) ).isEmpty() )
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private ItemStack multiply( final IAEItemStack input, final int copies )
+	{
+		final ItemStack is = input.createItemStack();
+		is.setCount( (int) ( input.getStackSize() * copies ) );
+		return is;
+	}
+
 	@Override
 	public boolean isBusy()
 	{
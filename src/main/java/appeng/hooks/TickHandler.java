@@ -192,12 +192,17 @@ public class TickHandler
 				final Collection<CraftingJob> jobSet = this.craftingJobs.get( wte.world );
 				if( !jobSet.isEmpty() )
 				{
+					// only one job runs at a time, they read recipes, the crafting caches and the world without locking.
 					final int simTime = Math.max( 1, AEConfig.instance().getCraftingCalculationTimePerTick() / jobSet.size() );
 					final Iterator<CraftingJob> i = jobSet.iterator();
 					while( i.hasNext() )
 					{
 						final CraftingJob cj = i.next();
-						if( !cj.simulateFor( simTime ) )
+						if( cj.startSimulation( simTime ) )
+						{
+							cj.awaitSimulation();
+						}
+						else
 						{
 							i.remove();
 						}
@@ -86,6 +86,11 @@ public class Grid implements IGrid
 		return this.caches;
 	}
 
+	public Collection<GridCacheWrapper> getCacheWrappers()
+	{
+		return this.caches.values();
+	}
+
 	public Iterable<Class<? extends IGridHost>> getMachineClasses()
 	{
 		return this.machines.keySet();
@@ -247,6 +252,11 @@ public class Grid implements IGrid
 		return s;
 	}
 
+	MachineSet getMachineSet( final Class<?> c )
+	{
+		return this.machines.get( c );
+	}
+
 	@Override
 	public IReadOnlyCollection<IGridNode> getNodes()
 	{
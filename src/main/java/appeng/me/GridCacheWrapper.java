@@ -23,6 +23,7 @@ import appeng.api.networking.IGridCache;
 import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridStorage;
+import appeng.me.cache.helpers.TickStatistics;
 
 
 public class GridCacheWrapper implements IGridCache
@@ -30,6 +31,7 @@ public class GridCacheWrapper implements IGridCache
 
 	private final IGridCache myCache;
 	private final String name;
+	private final TickStatistics statistics = new TickStatistics();
 
 	public GridCacheWrapper( final IGridCache gc )
 	{
@@ -40,7 +42,9 @@ public class GridCacheWrapper implements IGridCache
 	@Override
 	public void onUpdateTick()
 	{
+		final long started = System.nanoTime();
 		this.getCache().onUpdateTick();
+		this.statistics.record( System.nanoTime() - started );
 	}
 
 	@Override
@@ -78,6 +82,11 @@ public class GridCacheWrapper implements IGridCache
 		return this.name;
 	}
 
+	public TickStatistics getStatistics()
+	{
+		return this.statistics;
+	}
+
 	IGridCache getCache()
 	{
 		return this.myCache;
@@ -33,11 +33,48 @@ public class MachineSet extends HashSet<IGridNode> implements IMachineSet
 
 	private final Class<? extends IGridHost> machine;
 
+	// copy of the current members for event dispatch, rebuilt after the set changed.
+	private transient IGridNode[] snapshot;
+
 	MachineSet( final Class<? extends IGridHost> m )
 	{
 		this.machine = m;
 	}
 
+	@Override
+	public boolean add( final IGridNode node )
+	{
+		this.snapshot = null;
+		return super.add( node );
+	}
+
+	@Override
+	public boolean remove( final Object node )
+	{
+		this.snapshot = null;
+		return super.remove( node );
+	}
+
+	@Override
+	public void clear()
+	{
+		this.snapshot = null;
+		super.clear();
+	}
+
+	/**
+	 * @return the members at the time of the call, unaffected by later changes to this set.
+	 */
+	IGridNode[] snapshot()
+	{
+		if( this.snapshot == null )
+		{
+			this.snapshot = this.toArray( new IGridNode[this.size()] );
+		}
+
+		return this.snapshot;
+	}
+
 	@Override
 	public Class<? extends IGridHost> getMachineClass()
 	{
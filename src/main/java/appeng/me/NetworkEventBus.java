@@ -19,6 +19,11 @@
 package appeng.me;
 
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,7 +34,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import appeng.api.networking.IGridNode;
-import appeng.api.networking.IMachineSet;
 import appeng.api.networking.events.MENetworkEvent;
 import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.core.AELog;
@@ -40,8 +44,13 @@ public class NetworkEventBus
 	private static final Collection<Class> READ_CLASSES = new HashSet<>();
 	private static final Map<Class<? extends MENetworkEvent>, Map<Class, MENetworkEventInfo>> EVENTS = new HashMap<>();
 
+	// the subscribers of this grid per event, cleared whenever the grid gets a new cache or machine class.
+	private final Map<Class<? extends MENetworkEvent>, Subscriber[]> gridSubscribers = new HashMap<>();
+
 	void readClass( final Class listAs, final Class c )
 	{
+		this.gridSubscribers.clear();
+
 		if( READ_CLASSES.contains( c ) )
 		{
 			return;
@@ -98,29 +107,24 @@ public class NetworkEventBus
 
 	MENetworkEvent postEvent( final Grid g, final MENetworkEvent e )
 	{
-		final Map<Class, MENetworkEventInfo> subscribers = EVENTS.get( e.getClass() );
 		int x = 0;
 
 		try
 		{
-			if( subscribers != null )
+			for( final Subscriber subscriber : this.getSubscribers( g, e.getClass() ) )
 			{
-				for( final Entry<Class, MENetworkEventInfo> subscriber : subscribers.entrySet() )
+				final MENetworkEventInfo target = subscriber.target;
+				if( subscriber.cache != null )
 				{
-					final MENetworkEventInfo target = subscriber.getValue();
-					final GridCacheWrapper cache = g.getCaches().get( subscriber.getKey() );
-					if( cache != null )
-					{
-						x++;
-						target.invoke( cache.getCache(), e );
-					}
-
-					// events may create or remove grid nodes in rare cases
-					final IMachineSet machines = g.getMachines( subscriber.getKey() );
-					final List<IGridNode> work = new ArrayList<>( machines.size() );
-					machines.forEach( work::add );
+					x++;
+					target.invoke( subscriber.cache.getCache(), e );
+				}
 
-					for( final IGridNode obj : work )
+				// events may create or remove grid nodes in rare cases
+				final MachineSet machines = subscriber.machines;
+				if( machines != null )
+				{
+					for( final IGridNode obj : machines.snapshot() )
 					{
 						// stil part of grid?
 						if( machines.contains( obj ) )
@@ -141,6 +145,36 @@ public class NetworkEventBus
 		return e;
 	}
 
+	private Subscriber[] getSubscribers( final Grid g, final Class<? extends MENetworkEvent> event )
+	{
+		Subscriber[] subscribers = this.gridSubscribers.get( event );
+
+		if( subscribers == null )
+		{
+			final List<Subscriber> list = new ArrayList<>();
+			final Map<Class, MENetworkEventInfo> targets = EVENTS.get( event );
+
+			if( targets != null )
+			{
+				for( final Entry<Class, MENetworkEventInfo> target : targets.entrySet() )
+				{
+					final GridCacheWrapper cache = g.getCaches().get( target.getKey() );
+					final MachineSet machines = g.getMachineSet( target.getKey() );
+
+					if( cache != null || machines != null )
+					{
+						list.add( new Subscriber( target.getValue(), cache, machines ) );
+					}
+				}
+			}
+
+			subscribers = list.toArray( new Subscriber[list.size()] );
+			this.gridSubscribers.put( event, subscribers );
+		}
+
+		return subscribers;
+	}
+
 	MENetworkEvent postEventTo( final Grid grid, final GridNode node, final MENetworkEvent e )
 	{
 		final Map<Class, MENetworkEventInfo> subscribers = EVENTS.get( e.getClass() );
@@ -173,25 +207,51 @@ public class NetworkEventBus
 		private static final long serialVersionUID = -3079021487019171205L;
 	}
 
+	/**
+	 * Calls a subscriber method without reflection.
+	 */
+	@FunctionalInterface
+	interface EventInvoker
+	{
+		void invoke( Object target, MENetworkEvent event );
+	}
+
+	private static class Subscriber
+	{
+
+		private final MENetworkEventInfo target;
+		private final GridCacheWrapper cache;
+		private final MachineSet machines;
+
+		private Subscriber( final MENetworkEventInfo target, final GridCacheWrapper cache, final MachineSet machines )
+		{
+			this.target = target;
+			this.cache = cache;
+			this.machines = machines;
+		}
+	}
+
 	private class EventMethod
 	{
 
 		private final Class objClass;
 		private final Method objMethod;
 		private final Class objEvent;
+		private final EventInvoker invoker;
 
 		public EventMethod( final Class Event, final Class ObjClass, final Method ObjMethod )
 		{
 			this.objClass = ObjClass;
 			this.objMethod = ObjMethod;
 			this.objEvent = Event;
+			this.invoker = createInvoker( ObjMethod );
 		}
 
 		private void invoke( final Object obj, final MENetworkEvent e ) throws NetworkEventDone
 		{
 			try
 			{
-				this.objMethod.invoke( obj, e );
+				this.invoker.invoke( obj, e );
 			}
 			catch( final Throwable e1 )
 			{
@@ -208,6 +268,53 @@ public class NetworkEventBus
 		}
 	}
 
+	/**
+	 * Binds the method to a generated {@link EventInvoker}, or to a plain {@link MethodHandle} if the lambda can not be
+	 * generated, e.g. because the subscriber class is not visible from this class loader.
+	 */
+	private static EventInvoker createInvoker( final Method method )
+	{
+		try
+		{
+			final MethodHandles.Lookup lookup = MethodHandles.lookup();
+			final MethodHandle handle = lookup.unreflect( method );
+
+			try
+			{
+				final MethodType erased = MethodType.methodType( void.class, Object.class, MENetworkEvent.class );
+				final CallSite site = LambdaMetafactory.metafactory( lookup, "invoke", MethodType.methodType( EventInvoker.class ), erased, handle,
+						handle.type().changeReturnType( void.class ) );
+
+				return (EventInvoker) site.getTarget().invokeExact();
+			}
+			catch( final Throwable t )
+			{
+				AELog.debug( t );
+
+				final MethodHandle generic = handle.asType( MethodType.methodType( void.class, Object.class, MENetworkEvent.class ) );
+				return ( target, event ) ->
+				{
+					try
+					{
+						generic.invokeExact( target, event );
+					}
+					catch( final RuntimeException | Error e )
+					{
+						throw e;
+					}
+					catch( final Throwable e )
+					{
+						throw new IllegalStateException( e );
+					}
+				};
+			}
+		}
+		catch( final IllegalAccessException e )
+		{
+			throw new IllegalStateException( "Unable to access ME Network Event Subscriber " + method.getName(), e );
+		}
+	}
+
 	private class MENetworkEventInfo
 	{
 
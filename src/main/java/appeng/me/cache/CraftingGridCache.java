@@ -28,13 +28,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableCollection;
@@ -78,6 +74,7 @@ import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.crafting.CraftingJob;
+import appeng.crafting.CraftingJobScheduler;
 import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
 import appeng.crafting.CraftingWatcher;
@@ -91,23 +88,18 @@ import appeng.tile.crafting.TileCraftingTile;
 public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper, ICellProvider, IMEInventoryHandler<IAEItemStack>
 {
 
-	private static final ExecutorService CRAFTING_POOL;
 	private static final Comparator<ICraftingPatternDetails> COMPARATOR = ( firstDetail, nextDetail ) -> nextDetail.getPriority() - firstDetail.getPriority();
 
-	static
-	{
-		final ThreadFactory factory = ar -> new Thread( ar, "AE Crafting Calculator" );
-
-		CRAFTING_POOL = Executors.newCachedThreadPool( factory );
-	}
-
 	private final Set<CraftingCPUCluster> craftingCPUClusters = new HashSet<>();
-	private final Set<ICraftingProvider> craftingProviders = new HashSet<>();
+	private final Map<ICraftingProvider, ProviderPatterns> craftingProviders = new HashMap<>();
 	private final Map<IGridNode, ICraftingWatcher> craftingWatchers = new HashMap<>();
 	private final IGrid grid;
 	private final Map<ICraftingPatternDetails, List<ICraftingMedium>> craftingMethods = new HashMap<>();
 	private final Map<IAEItemStack, ImmutableList<ICraftingPatternDetails>> craftableItems = new HashMap<>();
-	private final Set<IAEItemStack> emitableItems = new HashSet<>();
+	private final Map<IAEItemStack, Set<ICraftingPatternDetails>> patternsByOutput = new HashMap<>();
+	private final Map<IAEItemStack, Integer> emitableItems = new HashMap<>();
+	private final Set<IAEItemStack> changedCraftables = new HashSet<>();
+	private ProviderPatterns collecting;
 	private final Map<String, CraftingLinkNexus> craftingLinks = new HashMap<>();
 	private final Multimap<IAEStack, CraftingWatcher> interests = HashMultimap.create();
 	private final GenericInterestManager<CraftingWatcher> interestManager = new GenericInterestManager<>( this.interests );
@@ -184,8 +176,8 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 
 		if( machine instanceof ICraftingProvider )
 		{
-			this.craftingProviders.remove( machine );
-			this.updatePatterns();
+			this.removeProvider( (ICraftingProvider) machine );
+			this.postCraftableChanges();
 		}
 	}
 
@@ -218,8 +210,9 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 
 		if( machine instanceof ICraftingProvider )
 		{
-			this.craftingProviders.add( (ICraftingProvider) machine );
-			this.updatePatterns();
+			this.removeProvider( (ICraftingProvider) machine );
+			this.addProvider( (ICraftingProvider) machine );
+			this.postCraftableChanges();
 		}
 	}
 
@@ -242,55 +235,179 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 
 	private void updatePatterns()
 	{
-		final Map<IAEItemStack, ImmutableList<ICraftingPatternDetails>> oldItems = this.craftableItems;
+		final List<ICraftingProvider> providers = new ArrayList<>( this.craftingProviders.keySet() );
+
+		for( final ICraftingProvider provider : providers )
+		{
+			this.removeProvider( provider );
+		}
 
-		// erase list.
-		this.craftingMethods.clear();
-		this.craftableItems.clear();
-		this.emitableItems.clear();
+		for( final ICraftingProvider provider : providers )
+		{
+			this.addProvider( provider );
+		}
 
-		// update the stuff that was in the list...
-		this.storageGrid.postAlterationOfStoredItems( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ), oldItems.keySet(),
-				new BaseActionSource() );
+		this.postCraftableChanges();
+	}
 
-		// re-create list..
-		for( final ICraftingProvider provider : this.craftingProviders )
+	private void addProvider( final ICraftingProvider provider )
+	{
+		final ProviderPatterns patterns = new ProviderPatterns();
+		this.craftingProviders.put( provider, patterns );
+
+		this.collecting = patterns;
+		try
 		{
 			provider.provideCrafting( this );
 		}
+		finally
+		{
+			this.collecting = null;
+		}
+
+		this.addCraftingOptions( patterns );
+	}
+
+	private void removeProvider( final ICraftingProvider provider )
+	{
+		final ProviderPatterns patterns = this.craftingProviders.remove( provider );
 
-		final Map<IAEItemStack, Set<ICraftingPatternDetails>> tmpCraft = new HashMap<>();
+		if( patterns == null )
+		{
+			return;
+		}
+
+		for( final Map.Entry<ICraftingPatternDetails, List<ICraftingMedium>> entry : patterns.byPattern().entrySet() )
+		{
+			this.removeCraftingOptions( entry.getKey(), entry.getValue() );
+		}
 
-		// new craftables!
-		for( final ICraftingPatternDetails details : this.craftingMethods.keySet() )
+		for( final IAEItemStack emitable : patterns.emitables )
 		{
-			for( IAEItemStack out : details.getOutputs() )
+			final int remaining = this.emitableItems.getOrDefault( emitable, 1 ) - 1;
+
+			if( remaining <= 0 )
+			{
+				this.emitableItems.remove( emitable );
+				this.changedCraftables.add( emitable );
+			}
+			else
 			{
-				out = out.copy();
-				out.reset();
-				out.setCraftable( true );
+				this.emitableItems.put( emitable, remaining );
+			}
+		}
+	}
+
+	/**
+	 * Registers the collected options, copying the medium list of every pattern once per provider update.
+	 */
+	private void addCraftingOptions( final ProviderPatterns patterns )
+	{
+		for( final Map.Entry<ICraftingPatternDetails, List<ICraftingMedium>> entry : patterns.byPattern().entrySet() )
+		{
+			final ICraftingPatternDetails details = entry.getKey();
+			final List<ICraftingMedium> mediums = this.craftingMethods.get( details );
 
-				Set<ICraftingPatternDetails> methods = tmpCraft.get( out );
+			if( mediums != null )
+			{
+				// replaced instead of modified, CPUs might be iterating the old list.
+				final List<ICraftingMedium> combined = new ArrayList<>( mediums.size() + entry.getValue().size() );
+				combined.addAll( mediums );
+				combined.addAll( entry.getValue() );
+				this.craftingMethods.put( details, combined );
+				continue;
+			}
 
-				if( methods == null )
-				{
-					tmpCraft.put( out, methods = new TreeSet<>( COMPARATOR ) );
-				}
+			this.craftingMethods.put( details, entry.getValue() );
 
-				methods.add( details );
+			for( final IAEItemStack out : details.getOutputs() )
+			{
+				final IAEItemStack key = craftableKey( out );
+				this.patternsByOutput.computeIfAbsent( key, k -> new HashSet<>() ).add( details );
+				this.changedCraftables.add( key );
 			}
 		}
+	}
+
+	private void removeCraftingOptions( final ICraftingPatternDetails details, final List<ICraftingMedium> removed )
+	{
+		final List<ICraftingMedium> mediums = this.craftingMethods.get( details );
 
-		// make them immutable
-		for( final Entry<IAEItemStack, Set<ICraftingPatternDetails>> e : tmpCraft.entrySet() )
+		if( mediums == null )
 		{
-			this.craftableItems.put( e.getKey(), ImmutableList.copyOf( e.getValue() ) );
+			return;
 		}
 
-		this.storageGrid.postAlterationOfStoredItems( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ), this.craftableItems.keySet(),
+		// replaced instead of modified, CPUs might be iterating the old list.
+		final List<ICraftingMedium> remaining = new ArrayList<>( mediums );
+		for( final ICraftingMedium medium : removed )
+		{
+			remaining.remove( medium );
+		}
+
+		if( !remaining.isEmpty() )
+		{
+			this.craftingMethods.put( details, remaining );
+			return;
+		}
+
+		this.craftingMethods.remove( details );
+
+		for( final IAEItemStack out : details.getOutputs() )
+		{
+			final IAEItemStack key = craftableKey( out );
+			final Set<ICraftingPatternDetails> methods = this.patternsByOutput.get( key );
+
+			if( methods != null )
+			{
+				methods.remove( details );
+				this.changedCraftables.add( key );
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the craftable entries of every output which gained or lost a pattern and posts them to the network.
+	 */
+	private void postCraftableChanges()
+	{
+		if( this.changedCraftables.isEmpty() )
+		{
+			return;
+		}
+
+		final List<IAEItemStack> changed = new ArrayList<>( this.changedCraftables );
+		this.changedCraftables.clear();
+
+		for( final IAEItemStack key : changed )
+		{
+			final Set<ICraftingPatternDetails> methods = this.patternsByOutput.get( key );
+
+			if( methods == null || methods.isEmpty() )
+			{
+				this.patternsByOutput.remove( key );
+				this.craftableItems.remove( key );
+			}
+			else
+			{
+				final Set<ICraftingPatternDetails> sorted = new TreeSet<>( COMPARATOR );
+				sorted.addAll( methods );
+				this.craftableItems.put( key, ImmutableList.copyOf( sorted ) );
+			}
+		}
+
+		this.storageGrid.postAlterationOfStoredItems( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ), changed,
 				new BaseActionSource() );
 	}
 
+	private static IAEItemStack craftableKey( final IAEItemStack output )
+	{
+		final IAEItemStack key = output.copy();
+		key.reset();
+		key.setCraftable( true );
+		return key;
+	}
+
 	private void updateCPUClusters()
 	{
 		this.craftingCPUClusters.clear();
@@ -337,29 +454,52 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 	@MENetworkEventSubscribe
 	public void updateCPUClusters( final MENetworkCraftingPatternChange c )
 	{
-		this.updatePatterns();
+		// interfaces post the event for their duality, but are registered as the machine of their node.
+		final IGridHost machine = c.node == null ? null : c.node.getMachine();
+		final ICraftingProvider provider = this.craftingProviders.containsKey( machine ) ? (ICraftingProvider) machine : c.provider;
+
+		if( this.craftingProviders.containsKey( provider ) )
+		{
+			this.removeProvider( provider );
+			this.addProvider( provider );
+			this.postCraftableChanges();
+		}
+		else
+		{
+			this.updatePatterns();
+		}
 	}
 
 	@Override
 	public void addCraftingOption( final ICraftingMedium medium, final ICraftingPatternDetails api )
 	{
-		List<ICraftingMedium> details = this.craftingMethods.get( api );
-		if( details == null )
-		{
-			details = new ArrayList<>();
-			details.add( medium );
-			this.craftingMethods.put( api, details );
-		}
-		else
+		if( this.collecting != null )
 		{
-			details.add( medium );
+			this.collecting.mediums.add( medium );
+			this.collecting.patterns.add( api );
+			return;
 		}
+
+		final ProviderPatterns single = new ProviderPatterns();
+		single.mediums.add( medium );
+		single.patterns.add( api );
+		this.addCraftingOptions( single );
 	}
 
 	@Override
 	public void setEmitable( final IAEItemStack someItem )
 	{
-		this.emitableItems.add( someItem.copy() );
+		final IAEItemStack emitable = someItem.copy();
+
+		if( this.collecting != null )
+		{
+			this.collecting.emitables.add( emitable );
+		}
+
+		if( this.emitableItems.merge( emitable, 1, Integer::sum ) == 1 )
+		{
+			this.changedCraftables.add( emitable );
+		}
 	}
 
 	@Override
@@ -445,7 +585,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 			out.addCrafting( stack );
 		}
 
-		for( final IAEItemStack st : this.emitableItems )
+		for( final IAEItemStack st : this.emitableItems.keySet() )
 		{
 			out.addCrafting( st );
 		}
@@ -498,7 +638,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 
 		final CraftingJob job = new CraftingJob( world, grid, actionSrc, slotItem, cb );
 
-		return CRAFTING_POOL.submit( job, (ICraftingJob) job );
+		return CraftingJobScheduler.instance().submit( job );
 	}
 
 	@Override
@@ -570,7 +710,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 	@Override
 	public boolean canEmitFor( final IAEItemStack someItem )
 	{
-		return this.emitableItems.contains( someItem );
+		return this.emitableItems.containsKey( someItem );
 	}
 
 	@Override
@@ -662,4 +802,27 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 			// no..
 		}
 	}
+
+	/**
+	 * Everything a single provider contributed, so it can be retracted without asking every other provider again.
+	 */
+	private static class ProviderPatterns
+	{
+
+		private final List<ICraftingMedium> mediums = new ArrayList<>();
+		private final List<ICraftingPatternDetails> patterns = new ArrayList<>();
+		private final List<IAEItemStack> emitables = new ArrayList<>();
+
+		private Map<ICraftingPatternDetails, List<ICraftingMedium>> byPattern()
+		{
+			final Map<ICraftingPatternDetails, List<ICraftingMedium>> grouped = new HashMap<>();
+
+			for( int i = 0; i < this.patterns.size(); i++ )
+			{
+				grouped.computeIfAbsent( this.patterns.get( i ), k -> new ArrayList<>( 1 ) ).add( this.mediums.get( i ) );
+			}
+
+			return grouped;
+		}
+	}
 }
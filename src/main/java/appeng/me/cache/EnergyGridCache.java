@@ -259,6 +259,54 @@ public class EnergyGridCache implements IEnergyGrid
 		return pm.divide( extracted );
 	}
 
+	@Override
+	public double reservePower( final double amt, final PowerMultiplier pm )
+	{
+		// reservations are taken from the buffer first, emptying it would turn the grid off until the refund.
+		if( pm.multiply( amt ) > this.localStorage.getAECurrentPower() - 0.01 )
+		{
+			return 0;
+		}
+
+		return this.extractAEPower( amt, Actionable.MODULATE, pm );
+	}
+
+	@Override
+	public void refundPower( final double amt, final PowerMultiplier pm )
+	{
+		final double refund = pm.multiply( amt );
+
+		if( refund <= 0 )
+		{
+			return;
+		}
+
+		// undo the drain instead of counting it as injected power.
+		final double buffered = Math.max( 0, Math.min( refund, MAX_BUFFER_STORAGE - this.localStorage.getAECurrentPower() ) );
+		if( buffered > 0 )
+		{
+			this.localStorage.addCurrentAEPower( buffered );
+		}
+
+		double overflow = refund - buffered;
+		if( overflow > 0 )
+		{
+			final double rest = overflow;
+			overflow = this.injectProviderPower( rest, Actionable.MODULATE );
+			this.tickInjectionPerTick -= rest - overflow;
+		}
+
+		final double returned = refund - overflow;
+		this.globalAvailablePower += returned;
+		this.tickDrainPerTick = Math.max( 0, this.tickDrainPerTick - returned );
+
+		// whatever did not fit was reserved from connected grids.
+		if( overflow > 0 )
+		{
+			this.injectPower( overflow, Actionable.MODULATE );
+		}
+	}
+
 	@Override
 	public double getIdlePowerUsage()
 	{
@@ -47,7 +47,6 @@ import appeng.api.storage.ICellProvider;
 import appeng.api.storage.IMEInventoryHandler;
 import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.IStorageChannel;
-import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.me.helpers.BaseActionSource;
@@ -66,6 +65,8 @@ public class GridStorageCache implements IStorageGrid
 	private final SetMultimap<IAEStack, ItemWatcher> interests = HashMultimap.create();
 	private final GenericInterestManager<ItemWatcher> interestManager = new GenericInterestManager<>( this.interests );
 	private final HashMap<IGridNode, IStackWatcher> watchers = new HashMap<>();
+	private final Map<ICellProvider, Map<IStorageChannel<?>, List<IMEInventoryHandler>>> cellArrays = new HashMap<>();
+	private ICellProvider readingCellArrays = null;
 	private Map<IStorageChannel<? extends IAEStack>, NetworkInventoryHandler<?>> storageNetworks;
 	private Map<IStorageChannel<? extends IAEStack>, NetworkMonitor<?>> storageMonitors;
 
@@ -94,7 +95,7 @@ public class GridStorageCache implements IStorageGrid
 
 			this.removeCellProvider( cc, tracker );
 			this.inactiveCellProviders.remove( cc );
-			this.getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getGrid().postEvent( new MENetworkCellArrayUpdate( cc ) );
 
 			tracker.applyChanges();
 		}
@@ -119,7 +120,7 @@ public class GridStorageCache implements IStorageGrid
 			final ICellContainer cc = (ICellContainer) machine;
 			this.inactiveCellProviders.add( cc );
 
-			this.getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getGrid().postEvent( new MENetworkCellArrayUpdate( cc ) );
 
 			if( node.isActive() )
 			{
@@ -175,13 +176,22 @@ public class GridStorageCache implements IStorageGrid
 			this.inactiveCellProviders.remove( cc );
 			this.activeCellProviders.add( cc );
 
-			final IActionSource actionSrc = cc instanceof IActionHost ? new MachineSource( (IActionHost) cc ) : new BaseActionSource();
+			final IActionSource actionSrc = this.getActionSource( cc );
+			final Map<IStorageChannel<?>, List<IMEInventoryHandler>> arrays = this.readCellArrays( cc );
 
-			this.storageMonitors.forEach( ( channel, monitor ) ->
+			this.cellArrays.put( cc, arrays );
+			arrays.forEach( ( channel, handlers ) ->
 			{
-				for( final IMEInventoryHandler<?> h : cc.getCellArray( channel ) )
+				final NetworkInventoryHandler storageNetwork = this.storageNetworks.get( channel );
+
+				for( final IMEInventoryHandler h : handlers )
 				{
 					tracker.postChanges( channel, 1, h, actionSrc );
+
+					if( storageNetwork != null )
+					{
+						storageNetwork.addNewStorage( h );
+					}
 				}
 			} );
 		}
@@ -196,13 +206,22 @@ public class GridStorageCache implements IStorageGrid
 			this.activeCellProviders.remove( cc );
 			this.inactiveCellProviders.add( cc );
 
-			final IActionSource actionSrc = cc instanceof IActionHost ? new MachineSource( (IActionHost) cc ) : new BaseActionSource();
+			final IActionSource actionSrc = this.getActionSource( cc );
+			final Map<IStorageChannel<?>, List<IMEInventoryHandler>> arrays = this.cellArrays.remove( cc );
 
-			this.storageMonitors.forEach( ( channel, monitor ) ->
+			// the recorded handlers, the provider might already report a different or an empty cell array.
+			arrays.forEach( ( channel, handlers ) ->
 			{
-				for( final IMEInventoryHandler<IAEItemStack> h : cc.getCellArray( channel ) )
+				final NetworkInventoryHandler storageNetwork = this.storageNetworks.get( channel );
+
+				for( final IMEInventoryHandler h : handlers )
 				{
 					tracker.postChanges( channel, -1, h, actionSrc );
+
+					if( storageNetwork != null )
+					{
+						storageNetwork.removeStorage( h );
+					}
 				}
 			} );
 		}
@@ -210,9 +229,148 @@ public class GridStorageCache implements IStorageGrid
 		return tracker;
 	}
 
+	/**
+	 * Replaces the handlers of an active provider in place and posts the difference of their contents, instead of
+	 * rebuilding the network storage.
+	 */
+	private void refreshCellProvider( final ICellProvider cc )
+	{
+		final IActionSource actionSrc = this.getActionSource( cc );
+		final Map<IStorageChannel<?>, List<IMEInventoryHandler>> previous = this.cellArrays.get( cc );
+		final Map<IStorageChannel<?>, List<IMEInventoryHandler>> current = this.readCellArrays( cc );
+
+		this.cellArrays.put( cc, current );
+
+		current.forEach( ( channel, handlers ) ->
+		{
+			final List<IMEInventoryHandler> old = previous.get( channel );
+			final NetworkInventoryHandler storageNetwork = this.storageNetworks.get( channel );
+
+			// re-add them all, the priority of the remaining handlers might have changed.
+			if( storageNetwork != null )
+			{
+				old.forEach( storageNetwork::removeStorage );
+				handlers.forEach( storageNetwork::addNewStorage );
+			}
+
+			final IItemList changes = this.getCellArrayDifference( (IStorageChannel) channel, (List) old, (List) handlers );
+			if( !changes.isEmpty() )
+			{
+				this.postChangesToNetwork( channel, 1, changes, actionSrc );
+			}
+		} );
+	}
+
+	private <T extends IAEStack<T>> IItemList<T> getCellArrayDifference( final IStorageChannel<T> channel, final List<IMEInventoryHandler<T>> previous, final List<IMEInventoryHandler<T>> current )
+	{
+		final IItemList<T> removed = channel.createList();
+		final IItemList<T> added = channel.createList();
+
+		for( final IMEInventoryHandler<T> h : previous )
+		{
+			if( !containsHandler( current, h ) )
+			{
+				h.getAvailableItems( removed );
+			}
+		}
+
+		for( final IMEInventoryHandler<T> h : current )
+		{
+			if( !containsHandler( previous, h ) )
+			{
+				h.getAvailableItems( added );
+			}
+		}
+
+		for( final T stack : removed )
+		{
+			final T negated = stack.copy();
+			negated.setStackSize( -stack.getStackSize() );
+			added.add( negated );
+		}
+
+		final IItemList<T> changes = channel.createList();
+		for( final T stack : added )
+		{
+			if( stack.getStackSize() != 0 )
+			{
+				changes.add( stack );
+			}
+		}
+
+		return changes;
+	}
+
+	private static boolean containsHandler( final List<? extends IMEInventoryHandler<?>> handlers, final IMEInventoryHandler<?> h )
+	{
+		for( final IMEInventoryHandler<?> existing : handlers )
+		{
+			if( existing == h )
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Copies the current cell arrays, providers usually reuse or replace their lists without notice.
+	 */
+	private Map<IStorageChannel<?>, List<IMEInventoryHandler>> readCellArrays( final ICellProvider cc )
+	{
+		final Map<IStorageChannel<?>, List<IMEInventoryHandler>> arrays = new IdentityHashMap<>();
+
+		// creating the handlers can post another cell array update for the very same provider.
+		final ICellProvider wasReading = this.readingCellArrays;
+		this.readingCellArrays = cc;
+
+		try
+		{
+			for( final IStorageChannel<?> channel : this.storageMonitors.keySet() )
+			{
+				arrays.put( channel, new ArrayList<>( cc.getCellArray( channel ) ) );
+			}
+		}
+		finally
+		{
+			this.readingCellArrays = wasReading;
+		}
+
+		return arrays;
+	}
+
+	private IActionSource getActionSource( final ICellProvider cc )
+	{
+		return cc instanceof IActionHost ? new MachineSource( (IActionHost) cc ) : new BaseActionSource();
+	}
+
+	private boolean isActive( final ICellProvider cc )
+	{
+		if( cc instanceof IActionHost )
+		{
+			final IGridNode node = ( (IActionHost) cc ).getActionableNode();
+			return node != null && node.isActive();
+		}
+
+		return true;
+	}
+
 	@MENetworkEventSubscribe
 	public void cellUpdate( final MENetworkCellArrayUpdate ev )
 	{
+		if( ev.provider != null && ev.provider == this.readingCellArrays )
+		{
+			// the cell arrays of this provider are read right after this anyway.
+			return;
+		}
+
+		if( ev.provider != null )
+		{
+			this.updateCellProvider( ev.provider );
+			return;
+		}
+
 		this.storageNetworks.clear();
 
 		final List<ICellProvider> ll = new ArrayList<ICellProvider>();
@@ -223,22 +381,7 @@ public class GridStorageCache implements IStorageGrid
 
 		for( final ICellProvider cc : ll )
 		{
-			boolean active = true;
-
-			if( cc instanceof IActionHost )
-			{
-				final IGridNode node = ( (IActionHost) cc ).getActionableNode();
-				if( node != null && node.isActive() )
-				{
-					active = true;
-				}
-				else
-				{
-					active = false;
-				}
-			}
-
-			if( active )
+			if( this.isActive( cc ) )
 			{
 				this.addCellProvider( cc, tracker );
 			}
@@ -248,13 +391,41 @@ public class GridStorageCache implements IStorageGrid
 			}
 		}
 
+		for( final ICellProvider cc : this.activeCellProviders )
+		{
+			this.cellArrays.put( cc, this.readCellArrays( cc ) );
+		}
+
 		this.storageMonitors.forEach( ( channel, monitor ) -> monitor.forceUpdate() );
 
 		tracker.applyChanges();
 	}
 
+	private void updateCellProvider( final ICellProvider cc )
+	{
+		final boolean active = this.isActive( cc );
+
+		if( active && this.activeCellProviders.contains( cc ) )
+		{
+			this.refreshCellProvider( cc );
+		}
+		else if( active )
+		{
+			this.addCellProvider( cc, new CellChangeTracker() ).applyChanges();
+		}
+		else
+		{
+			this.removeCellProvider( cc, new CellChangeTracker() ).applyChanges();
+		}
+	}
+
 	private <T extends IAEStack<T>, C extends IStorageChannel<T>> void postChangesToNetwork( final C chan, final int upOrDown, final IItemList<T> availableItems, final IActionSource src )
 	{
+		if( upOrDown > 0 )
+		{
+			this.invalidateRoutes( chan, availableItems );
+		}
+
 		this.storageMonitors.get( chan ).postChange( upOrDown > 0, (Iterable) availableItems, src );
 	}
 
@@ -264,9 +435,9 @@ public class GridStorageCache implements IStorageGrid
 
 		final NetworkInventoryHandler<T> storageNetwork = new NetworkInventoryHandler<>( chan, security );
 
-		for( final ICellProvider cc : this.activeCellProviders )
+		for( final Map<IStorageChannel<?>, List<IMEInventoryHandler>> arrays : this.cellArrays.values() )
 		{
-			for( final IMEInventoryHandler<T> h : cc.getCellArray( chan ) )
+			for( final IMEInventoryHandler<T> h : arrays.get( chan ) )
 			{
 				storageNetwork.addNewStorage( h );
 			}
@@ -278,9 +449,24 @@ public class GridStorageCache implements IStorageGrid
 	@Override
 	public void postAlterationOfStoredItems( final IStorageChannel<?> chan, final Iterable<? extends IAEStack<?>> input, final IActionSource src )
 	{
+		this.invalidateRoutes( chan, input );
 		this.storageMonitors.get( chan ).postChange( true, (Iterable) input, src );
 	}
 
+	/**
+	 * Items showed up in a cell without being routed through the network inventory, so it can no longer trust its
+	 * routing index for them.
+	 */
+	private void invalidateRoutes( final IStorageChannel<?> chan, final Iterable<? extends IAEStack<?>> changes )
+	{
+		final NetworkInventoryHandler<?> storageNetwork = this.storageNetworks.get( chan );
+
+		if( storageNetwork != null )
+		{
+			storageNetwork.invalidateRoutes( changes );
+		}
+	}
+
 	@Override
 	public void registerCellProvider( final ICellProvider provider )
 	{
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridCache;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridStorage;
+import appeng.helpers.IInterfaceHost;
+
+
+/**
+ * Keeps track of the interfaces on a grid for the interface terminals, so they only have to look at interfaces which
+ * reported a change instead of scanning all of them every tick.
+ */
+public class InterfaceTerminalCache implements IGridCache
+{
+
+	private final IGrid myGrid;
+	private final Map<IInterfaceHost, IGridNode> interfaces = new LinkedHashMap<>();
+	private final List<Subscription> subscriptions = new ArrayList<>();
+
+	public InterfaceTerminalCache( final IGrid g )
+	{
+		this.myGrid = g;
+	}
+
+	@Override
+	public void onUpdateTick()
+	{
+
+	}
+
+	@Override
+	public void removeNode( final IGridNode node, final IGridHost machine )
+	{
+		if( machine instanceof IInterfaceHost )
+		{
+			this.interfaces.remove( machine );
+			this.markChanged( (IInterfaceHost) machine );
+		}
+	}
+
+	@Override
+	public void addNode( final IGridNode node, final IGridHost machine )
+	{
+		if( machine instanceof IInterfaceHost )
+		{
+			this.interfaces.put( (IInterfaceHost) machine, node );
+			this.markChanged( (IInterfaceHost) machine );
+		}
+	}
+
+	@Override
+	public void onSplit( final IGridStorage destinationStorage )
+	{
+
+	}
+
+	@Override
+	public void onJoin( final IGridStorage sourceStorage )
+	{
+
+	}
+
+	@Override
+	public void populateGridStorage( final IGridStorage destinationStorage )
+	{
+
+	}
+
+	/**
+	 * Called by interfaces when their patterns, settings or state changed.
+	 */
+	public void markChanged( final IInterfaceHost host )
+	{
+		for( final Subscription s : this.subscriptions )
+		{
+			s.changed.add( host );
+		}
+	}
+
+	public Collection<IInterfaceHost> getInterfaces()
+	{
+		return Collections.unmodifiableSet( this.interfaces.keySet() );
+	}
+
+	/**
+	 * @return the node of the interface, or null if it is not part of this grid (anymore).
+	 */
+	public IGridNode getNode( final IInterfaceHost host )
+	{
+		return this.interfaces.get( host );
+	}
+
+	public Subscription subscribe()
+	{
+		final Subscription s = new Subscription();
+		this.subscriptions.add( s );
+		return s;
+	}
+
+	public void unsubscribe( final Subscription s )
+	{
+		this.subscriptions.remove( s );
+	}
+
+	/**
+	 * The interfaces which changed since a terminal last looked at them.
+	 */
+	public static final class Subscription
+	{
+
+		private final Set<IInterfaceHost> changed = new LinkedHashSet<>();
+
+		private Subscription()
+		{
+		}
+
+		/**
+		 * @return the changed interfaces, which are forgotten by the subscription.
+		 */
+		public List<IInterfaceHost> takeChanges()
+		{
+			if( this.changed.isEmpty() )
+			{
+				return Collections.emptyList();
+			}
+
+			final List<IInterfaceHost> changes = new ArrayList<>( this.changed );
+			this.changed.clear();
+			return changes;
+		}
+	}
+}
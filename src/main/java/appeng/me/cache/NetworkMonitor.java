@@ -19,10 +19,14 @@
 package appeng.me.cache;
 
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -43,6 +47,9 @@ import appeng.api.storage.IMEMonitorHandlerReceiver;
 import appeng.api.storage.IStorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
+import appeng.core.features.AEFeature;
+import appeng.me.storage.IImmediateMonitorReceiver;
 import appeng.me.storage.ItemWatcher;
 
 
@@ -59,7 +66,13 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 	private final IItemList<T> cachedList;
 	@Nonnull
 	private final Map<IMEMonitorHandlerReceiver<T>, Object> listeners;
+	/**
+	 * Changes made by injecting or extracting during this tick, by source. Only used when coalescing.
+	 */
+	@Nonnull
+	private Map<IActionSource, IItemList<T>> pendingChanges = new LinkedHashMap<>();
 
+	private final boolean coalesceChanges;
 	private boolean sendEvent = false;
 	private boolean hasChanged = false;
 	@Nonnegative
@@ -71,6 +84,7 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 		this.myChannel = chan;
 		this.cachedList = chan.createList();
 		this.listeners = new HashMap<>();
+		this.coalesceChanges = AEConfig.instance().isFeatureEnabled( AEFeature.COALESCE_STORAGE_CHANGES );
 	}
 
 	@Override
@@ -105,6 +119,26 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 		return leftover;
 	}
 
+	@Override
+	public IItemList<T> extractBatch( final IItemList<T> request, final Actionable mode, final IActionSource src )
+	{
+		if( mode == Actionable.SIMULATE )
+		{
+			return this.getHandler().extractBatch( request, mode, src );
+		}
+
+		this.localDepthSemaphore++;
+		final IItemList<T> extracted = this.getHandler().extractBatch( request, mode, src );
+		this.localDepthSemaphore--;
+
+		if( this.localDepthSemaphore == 0 )
+		{
+			this.monitorDifferences( request, extracted, true, src );
+		}
+
+		return extracted;
+	}
+
 	@Override
 	public AccessRestriction getAccess()
 	{
@@ -169,6 +203,26 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 		return leftover;
 	}
 
+	@Override
+	public IItemList<T> injectBatch( final IItemList<T> input, final Actionable mode, final IActionSource src )
+	{
+		if( mode == Actionable.SIMULATE )
+		{
+			return this.getHandler().injectBatch( input, mode, src );
+		}
+
+		this.localDepthSemaphore++;
+		final IItemList<T> leftovers = this.getHandler().injectBatch( input, mode, src );
+		this.localDepthSemaphore--;
+
+		if( this.localDepthSemaphore == 0 )
+		{
+			this.monitorDifferences( input, leftovers, false, src );
+		}
+
+		return leftovers;
+	}
+
 	@Override
 	public boolean isPrioritized( final T input )
 	{
@@ -199,6 +253,60 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 	}
 
 	private T monitorDifference( final IAEStack<T> original, final T leftOvers, final boolean extraction, final IActionSource src )
+	{
+		final T diff = this.getDifference( original, leftOvers, extraction );
+
+		if( diff.getStackSize() != 0 )
+		{
+			if( this.coalesceChanges )
+			{
+				this.queueChange( diff, src );
+			}
+			else
+			{
+				this.postChangesToListeners( ImmutableList.of( diff ), src );
+			}
+		}
+
+		return leftOvers;
+	}
+
+	/**
+	 * Same as {@link #monitorDifference}, but posts the changes of a whole batch together.
+	 */
+	private void monitorDifferences( final IItemList<T> originals, final IItemList<T> results, final boolean extraction, final IActionSource src )
+	{
+		final List<T> changes = new ArrayList<>();
+
+		for( final T original : originals )
+		{
+			final T diff = this.getDifference( original, results.findPrecise( original ), extraction );
+
+			if( diff.getStackSize() != 0 )
+			{
+				changes.add( diff );
+			}
+		}
+
+		if( changes.isEmpty() )
+		{
+			return;
+		}
+
+		if( this.coalesceChanges )
+		{
+			for( final T diff : changes )
+			{
+				this.queueChange( diff, src );
+			}
+		}
+		else
+		{
+			this.postChangesToListeners( changes, src );
+		}
+	}
+
+	private T getDifference( final IAEStack<T> original, final T leftOvers, final boolean extraction )
 	{
 		final T diff = original.copy();
 
@@ -211,15 +319,66 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 			diff.decStackSize( leftOvers.getStackSize() );
 		}
 
-		if( diff.getStackSize() != 0 )
+		return diff;
+	}
+
+	/**
+	 * Adds the change to this tick's delta, but still hands it to immediate listeners and watchers right away.
+	 */
+	private void queueChange( final T diff, final IActionSource src )
+	{
+		if( this.localDepthSemaphore > 0 || GLOBAL_DEPTH.contains( this ) )
 		{
-			this.postChangesToListeners( ImmutableList.of( diff ), src );
+			return;
 		}
 
-		return leftOvers;
+		IItemList<T> pending = this.pendingChanges.get( src );
+
+		if( pending == null )
+		{
+			pending = this.myChannel.createList();
+			this.pendingChanges.put( src, pending );
+		}
+
+		pending.add( diff );
+
+		GLOBAL_DEPTH.push( this );
+		this.localDepthSemaphore++;
+
+		this.sendEvent = true;
+
+		final Iterable<T> changes = Collections.singletonList( diff );
+		this.notifyListenersOfChange( changes, src, true );
+		this.notifyWatchers( true, changes, src );
+
+		this.popDepth();
 	}
 
-	private void notifyListenersOfChange( final Iterable<T> diff, final IActionSource src )
+	private void flushPendingChanges()
+	{
+		if( this.pendingChanges.isEmpty() )
+		{
+			return;
+		}
+
+		final Map<IActionSource, IItemList<T>> changes = this.pendingChanges;
+		this.pendingChanges = new LinkedHashMap<>();
+
+		GLOBAL_DEPTH.push( this );
+		this.localDepthSemaphore++;
+
+		for( final Entry<IActionSource, IItemList<T>> e : changes.entrySet() )
+		{
+			this.notifyListenersOfChange( e.getValue(), e.getKey(), false );
+		}
+
+		this.popDepth();
+	}
+
+	/**
+	 * @param immediateOnly only notify the listeners which do not wait for the end of the tick.
+	 */
+	private void notifyListenersOfChange( final Iterable<T> diff, final IActionSource src, final boolean immediateOnly )
 	{
 		this.hasChanged = true;
 		final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
@@ -228,6 +387,12 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 		{
 			final Entry<IMEMonitorHandlerReceiver<T>, Object> o = i.next();
 			final IMEMonitorHandlerReceiver<T> receiver = o.getKey();
+
+			if( immediateOnly && !( receiver instanceof IImmediateMonitorReceiver ) )
+			{
+				continue;
+			}
+
 			if( receiver.isValid( o.getValue() ) )
 			{
 				receiver.postChange( this, diff, src );
@@ -256,8 +421,14 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 
 		this.sendEvent = true;
 
-		this.notifyListenersOfChange( changes, src );
+		this.notifyListenersOfChange( changes, src, false );
+		this.notifyWatchers( add, changes, src );
 
+		this.popDepth();
+	}
+
+	private void notifyWatchers( final boolean add, final Iterable<T> changes, final IActionSource src )
+	{
 		for( final T changedItem : changes )
 		{
 			T difference = changedItem;
@@ -293,7 +464,10 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 				}
 			}
 		}
+	}
 
+	private void popDepth()
+	{
 		final NetworkMonitor<?> last = GLOBAL_DEPTH.pop();
 		this.localDepthSemaphore--;
 
@@ -307,6 +481,9 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 	{
 		this.hasChanged = true;
 
+		// listeners fetch the whole list again, which already contains these changes.
+		this.pendingChanges.clear();
+
 		final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
 		while( i.hasNext() )
 		{
@@ -326,6 +503,8 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T>
 
 	void onTick()
 	{
+		this.flushPendingChanges();
+
 		if( this.sendEvent )
 		{
 			this.sendEvent = false;
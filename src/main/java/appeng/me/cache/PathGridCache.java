@@ -21,9 +21,11 @@ package appeng.me.cache;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import net.minecraft.entity.player.EntityPlayer;
@@ -79,6 +81,13 @@ public class PathGridCache implements IPathingGrid
 	private int lastChannels = 0;
 	private HashSet<IPathItem> semiOpen = new HashSet<>();
 
+	// everything reached from the controllers by the last full path computation, extended by incremental updates.
+	private Set<IPathItem> routed = new HashSet<>();
+	private final List<GridConnection> addedConnections = new ArrayList<>();
+	private final List<RemovedConnection> removedConnections = new ArrayList<>();
+	private final Set<IGridNode> removedNodes = new HashSet<>();
+	private final Map<GridNode, IPathItem> previousRoutes = new HashMap<>();
+
 	public PathGridCache( final IGrid g )
 	{
 		this.myGrid = g;
@@ -92,6 +101,11 @@ public class PathGridCache implements IPathingGrid
 			this.recalcController();
 		}
 
+		if( this.hasIncrementalChanges() )
+		{
+			this.applyIncrementalChanges();
+		}
+
 		if( this.updateNetwork )
 		{
 			if( !this.booting )
@@ -143,6 +157,7 @@ public class PathGridCache implements IPathingGrid
 				this.ticksUntilReady = 20 + Math.max( 0, nodes / 100 - 20 );
 				final HashSet<IPathItem> closedList = new HashSet<>();
 				this.semiOpen = new HashSet<>();
+				this.routed = closedList;
 
 				// myGrid.getPivot().beginVisit( new AdHocChannelUpdater( 0 )
 				// );
@@ -223,7 +238,15 @@ public class PathGridCache implements IPathingGrid
 			this.blockDense.remove( gridNode );
 		}
 
-		this.repath();
+		if( machine instanceof TileController || flags.contains( GridFlags.MULTIBLOCK ) || !this.canUpdateIncrementally() )
+		{
+			this.repath();
+		}
+		else
+		{
+			this.removedNodes.add( gridNode );
+			this.routed.remove( gridNode );
+		}
 	}
 
 	@Override
@@ -247,7 +270,199 @@ public class PathGridCache implements IPathingGrid
 			this.blockDense.add( gridNode );
 		}
 
-		this.repath();
+		// the node is routed once its connections show up, see connectionAdded.
+		if( machine instanceof TileController || flags.contains( GridFlags.MULTIBLOCK ) || !this.canUpdateIncrementally() )
+		{
+			this.repath();
+		}
+	}
+
+	/**
+	 * Called when a connection was created, before it is added to its nodes.
+	 */
+	public void connectionAdded( final GridConnection connection )
+	{
+		if( !this.canUpdateIncrementally() )
+		{
+			this.repath();
+			return;
+		}
+
+		// adding the connection sorts the connections of both nodes, which can move their route away from the front.
+		this.rememberRoute( (GridNode) connection.a() );
+		this.rememberRoute( (GridNode) connection.b() );
+		this.addedConnections.add( connection );
+	}
+
+	/**
+	 * Called when a connection is destroyed, before it is removed from its nodes.
+	 */
+	public void connectionRemoved( final GridConnection connection )
+	{
+		if( !this.canUpdateIncrementally() )
+		{
+			this.repath();
+			return;
+		}
+
+		this.addedConnections.remove( connection );
+
+		if( this.routed.remove( connection ) )
+		{
+			final GridNode child = (GridNode) connection.b();
+			final IPathItem route = this.previousRoutes.containsKey( child ) ? this.previousRoutes.get( child ) : child.getControllerRoute();
+			this.removedConnections.add( new RemovedConnection( connection, route == connection ) );
+		}
+	}
+
+	private void rememberRoute( final GridNode node )
+	{
+		if( this.routed.contains( node ) && !this.previousRoutes.containsKey( node ) )
+		{
+			this.previousRoutes.put( node, node.getControllerRoute() );
+		}
+	}
+
+	private boolean canUpdateIncrementally()
+	{
+		return AEConfig.instance().isFeatureEnabled( AEFeature.CHANNELS ) && this.controllerState == ControllerState.CONTROLLER_ONLINE && !this.recalculateControllerNextTick && !this.updateNetwork && !this.booting && this.active
+				.isEmpty();
+	}
+
+	private boolean hasIncrementalChanges()
+	{
+		return !this.addedConnections.isEmpty() || !this.removedConnections.isEmpty() || !this.removedNodes.isEmpty();
+	}
+
+	/**
+	 * Updates the channels for the connections and nodes which changed since the last tick, without rebooting the
+	 * network. Falls back to a full {@link #repath()} whenever a device which stays on the network loses its route to
+	 * the controller.
+	 */
+	private void applyIncrementalChanges()
+	{
+		for( final Map.Entry<GridNode, IPathItem> e : this.previousRoutes.entrySet() )
+		{
+			if( !this.removedNodes.contains( e.getKey() ) && e.getKey().getConnections().contains( e.getValue() ) )
+			{
+				e.getKey().setControllerRoute( e.getValue(), false );
+			}
+		}
+
+		boolean released = false;
+
+		for( final RemovedConnection removed : this.removedConnections )
+		{
+			final IGridNode parent = removed.connection.a();
+			final IGridNode child = removed.connection.b();
+
+			if( removed.carriedRoute )
+			{
+				if( !this.removedNodes.contains( child ) )
+				{
+					// something is cut off from its controller route.
+					this.repath();
+					return;
+				}
+
+				if( !this.removedNodes.contains( parent ) && removed.channels > 0 )
+				{
+					this.releaseChannels( (IPathItem) parent, removed.channels );
+					released = true;
+				}
+			}
+		}
+
+		if( released )
+		{
+			// hand out the freed channels to devices which did not get one before.
+			final PathSegment segment = new PathSegment( this, new ArrayList<>(), this.semiOpen, this.routed );
+			for( final IGridNode node : this.requireChannels )
+			{
+				if( ( (GridNode) node ).usedChannels() == 0 && this.routed.contains( node ) && !node.getGridBlock().getFlags().contains( GridFlags.MULTIBLOCK ) )
+				{
+					segment.giveChannel( (IPathItem) node );
+				}
+			}
+		}
+
+		for( final GridConnection gc : this.addedConnections )
+		{
+			if( this.routed.contains( gc ) || this.removedNodes.contains( gc.a() ) || this.removedNodes.contains( gc.b() ) )
+			{
+				continue;
+			}
+
+			final boolean routedA = this.routed.contains( gc.a() );
+			final boolean routedB = this.routed.contains( gc.b() );
+
+			if( routedA || routedB )
+			{
+				// continue the breadth first search from here, it only walks into items which are not routed yet.
+				final List<IPathItem> open = new ArrayList<>();
+				gc.setControllerRoute( (GridNode) ( routedA ? gc.a() : gc.b() ), true );
+				this.routed.add( gc );
+				open.add( gc );
+
+				final PathSegment ps = new PathSegment( this, open, this.semiOpen, this.routed );
+				while( !ps.step() )
+				{
+					// keep going.
+				}
+			}
+		}
+
+		this.clearIncrementalChanges();
+
+		final Iterator<TileController> controllerIterator = this.controllers.iterator();
+		if( controllerIterator.hasNext() )
+		{
+			controllerIterator.next().getGridNode( AEPartLocation.INTERNAL ).beginVisit( new ControllerChannelUpdater() );
+		}
+
+		this.setChannelsByBlocks( this.countChannelsByBlocks() );
+		this.setChannelPowerUsage( this.getChannelsByBlocks() / 128.0 );
+		this.achievementPost();
+	}
+
+	private void releaseChannels( final IPathItem start, final int channels )
+	{
+		IPathItem pi = start;
+		while( pi != null )
+		{
+			pi.incrementChannelCount( -channels );
+			pi = pi.getControllerRoute();
+		}
+
+		this.setChannelsInUse( this.getChannelsInUse() - channels );
+	}
+
+	private int countChannelsByBlocks()
+	{
+		int channels = 0;
+
+		for( final IGridNode node : this.myGrid.getNodes() )
+		{
+			channels += ( (GridNode) node ).usedChannels();
+
+			for( final IGridConnection gc : node.getConnections() )
+			{
+				if( gc.a() == node )
+				{
+					channels += gc.getUsedChannels();
+				}
+			}
+		}
+
+		return channels;
+	}
+
+	private void clearIncrementalChanges()
+	{
+		this.addedConnections.clear();
+		this.removedConnections.clear();
+		this.removedNodes.clear();
+		this.previousRoutes.clear();
 	}
 
 	@Override
@@ -416,6 +631,7 @@ public class PathGridCache implements IPathingGrid
 	{
 		// clean up...
 		this.active.clear();
+		this.clearIncrementalChanges();
 
 		this.setChannelsByBlocks( 0 );
 		this.updateNetwork = true;
@@ -450,4 +666,19 @@ public class PathGridCache implements IPathingGrid
 	{
 		this.channelsInUse = channelsInUse;
 	}
+
+	private static class RemovedConnection
+	{
+
+		private final GridConnection connection;
+		private final boolean carriedRoute;
+		private final int channels;
+
+		private RemovedConnection( final GridConnection connection, final boolean carriedRoute )
+		{
+			this.connection = connection;
+			this.carriedRoute = carriedRoute;
+			this.channels = connection.getUsedChannels();
+		}
+	}
 }
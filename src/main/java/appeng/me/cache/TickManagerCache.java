@@ -19,8 +19,9 @@
 package appeng.me.cache;
 
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.PriorityQueue;
 
 import com.google.common.base.Preconditions;
 
@@ -37,6 +38,7 @@ import appeng.api.networking.ticking.ITickManager;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.networking.ticking.TickingRequest;
 import appeng.me.cache.helpers.TickTracker;
+import appeng.me.cache.helpers.TickWheel;
 
 
 public class TickManagerCache implements ITickManager
@@ -46,9 +48,10 @@ public class TickManagerCache implements ITickManager
 	private final HashMap<IGridNode, TickTracker> alertable = new HashMap<>();
 	private final HashMap<IGridNode, TickTracker> sleeping = new HashMap<>();
 	private final HashMap<IGridNode, TickTracker> awake = new HashMap<>();
-	private final PriorityQueue<TickTracker> upcomingTicks = new PriorityQueue<>();
+	private final TickWheel<TickTracker> upcomingTicks = new TickWheel<>();
 
 	private long currentTick = 0;
+	private boolean ticking = false;
 
 	public TickManagerCache( final IGrid g )
 	{
@@ -77,6 +80,14 @@ public class TickManagerCache implements ITickManager
 		return tt.getAvgNanos();
 	}
 
+	/**
+	 * @return the trackers of all awake devices, sleeping ones would only report times from before they slept.
+	 */
+	public Collection<TickTracker> getTickTrackers()
+	{
+		return Collections.unmodifiableCollection( this.awake.values() );
+	}
+
 	@Override
 	public void onUpdateTick()
 	{
@@ -85,21 +96,15 @@ public class TickManagerCache implements ITickManager
 		try
 		{
 			this.currentTick++;
+			this.ticking = true;
 
-			while( !this.upcomingTicks.isEmpty() )
+			// devices alerted while ticking are still picked up during this tick, like before.
+			while( ( tt = this.upcomingTicks.poll( this.currentTick ) ) != null )
 			{
-				tt = this.upcomingTicks.peek();
-
-				// Stop once it reaches a TickTracker running at a later tick
-				if( tt.getNextTick() > this.currentTick )
-				{
-					break;
-				}
-
-				this.upcomingTicks.poll();
-
 				final int diff = (int) ( this.currentTick - tt.getLastTick() );
+				final long started = System.nanoTime();
 				final TickRateModulation mod = tt.getGridTickable().tickingRequest( tt.getNode(), diff );
+				tt.getStatistics().record( System.nanoTime() - started );
 
 				switch( mod )
 				{
@@ -129,6 +134,8 @@ public class TickManagerCache implements ITickManager
 					this.addToQueue( tt );
 				}
 			}
+
+			this.ticking = false;
 		}
 		catch( final Throwable t )
 		{
@@ -142,7 +149,14 @@ public class TickManagerCache implements ITickManager
 	private void addToQueue( final TickTracker tt )
 	{
 		tt.setLastTick( this.currentTick );
-		this.upcomingTicks.add( tt );
+		this.schedule( tt );
+	}
+
+	private void schedule( final TickTracker tt )
+	{
+		// overdue devices run on the current tick while ticking, otherwise on the next one.
+		final long earliest = this.ticking ? this.currentTick : this.currentTick + 1;
+		this.upcomingTicks.schedule( tt, Math.max( tt.getNextTick(), earliest ) );
 	}
 
 	@Override
@@ -151,8 +165,17 @@ public class TickManagerCache implements ITickManager
 		if( machine instanceof IGridTickable )
 		{
 			this.alertable.remove( gridNode );
-			this.sleeping.remove( gridNode );
-			this.awake.remove( gridNode );
+			final TickTracker sleepingTracker = this.sleeping.remove( gridNode );
+			final TickTracker awakeTracker = this.awake.remove( gridNode );
+
+			if( awakeTracker != null )
+			{
+				this.upcomingTicks.cancel( awakeTracker );
+			}
+			else if( sleepingTracker != null )
+			{
+				this.upcomingTicks.cancel( sleepingTracker );
+			}
 		}
 	}
 
@@ -224,9 +247,8 @@ public class TickManagerCache implements ITickManager
 		tt.setLastTick( tt.getLastTick() - tt.getRequest().maxTickRate );
 		tt.setCurrentRate( tt.getRequest().minTickRate );
 
-		// prevent dupes and tick build up.
-		this.upcomingTicks.remove( tt );
-		this.upcomingTicks.add( tt );
+		// rescheduling replaces the pending tick, so there are no dupes or tick build up.
+		this.schedule( tt );
 
 		return true;
 	}
@@ -241,6 +263,7 @@ public class TickManagerCache implements ITickManager
 			final TickTracker gt = this.awake.get( node );
 			this.awake.remove( node );
 			this.sleeping.put( node, gt );
+			this.upcomingTicks.cancel( gt );
 
 			return true;
 		}
@@ -258,7 +281,6 @@ public class TickManagerCache implements ITickManager
 			final TickTracker gt = this.sleeping.get( node );
 			this.sleeping.remove( node );
 			this.awake.put( node, gt );
-			this.upcomingTicks.remove( gt );
 			this.addToQueue( gt );
 
 			return true;
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+
+/**
+ * Rolling timing statistics over the last {@link #WINDOW} samples.
+ *
+ * Besides average and maximum it keeps a histogram of the window with power of two buckets starting at one
+ * microsecond, which is precise enough to tell spikes from devices which are slow on every tick.
+ */
+public class TickStatistics
+{
+
+	public static final int WINDOW = 32;
+	private static final int BUCKETS = 16;
+
+	private final long[] samples = new long[WINDOW];
+	private final int[] histogram = new int[BUCKETS];
+	private int next = 0;
+	private int count = 0;
+	private long sum = 0;
+	private long total = 0;
+
+	public void record( final long nanos )
+	{
+		if( this.count == WINDOW )
+		{
+			final long evicted = this.samples[this.next];
+			this.sum -= evicted;
+			this.histogram[bucket( evicted )]--;
+		}
+		else
+		{
+			this.count++;
+		}
+
+		this.samples[this.next] = nanos;
+		this.next = ( this.next + 1 ) % WINDOW;
+		this.sum += nanos;
+		this.total += nanos;
+		this.histogram[bucket( nanos )]++;
+	}
+
+	/**
+	 * @return the average of the window, or 0 if nothing was recorded yet.
+	 */
+	public long getAverage()
+	{
+		return this.count == 0 ? 0 : this.sum / this.count;
+	}
+
+	public long getMax()
+	{
+		long max = 0;
+
+		for( int i = 0; i < this.count; i++ )
+		{
+			max = Math.max( max, this.samples[i] );
+		}
+
+		return max;
+	}
+
+	/**
+	 * @return the upper bound of the histogram bucket containing the given percentile of the window.
+	 */
+	public long getPercentile( final double percentile )
+	{
+		final int wanted = (int) Math.ceil( this.count * percentile );
+		int seen = 0;
+
+		for( int i = 0; i < BUCKETS; i++ )
+		{
+			seen += this.histogram[i];
+
+			if( seen >= wanted && seen > 0 )
+			{
+				return i == BUCKETS - 1 ? this.getMax() : 1000L << ( i + 1 );
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * @return the time of every sample ever recorded.
+	 */
+	public long getTotal()
+	{
+		return this.total;
+	}
+
+	public int getSampleCount()
+	{
+		return this.count;
+	}
+
+	private static int bucket( final long nanos )
+	{
+		final long micros = nanos / 1000;
+
+		if( micros <= 0 )
+		{
+			return 0;
+		}
+
+		return Math.min( BUCKETS - 1, 63 - Long.numberOfLeadingZeros( micros ) );
+	}
+}
@@ -19,8 +19,6 @@
 package appeng.me.cache.helpers;
 
 
-import javax.annotation.Nonnull;
-
 import net.minecraft.crash.CrashReportCategory;
 
 import appeng.api.networking.IGridNode;
@@ -31,14 +29,14 @@ import appeng.me.cache.TickManagerCache;
 import appeng.parts.AEBasePart;
 
 
-public class TickTracker implements Comparable<TickTracker>
+public class TickTracker extends TickWheel.Entry<TickTracker>
 {
 
 	private final TickingRequest request;
 	private final IGridTickable gt;
 	private final IGridNode node;
 
-	private final long LastFiveTicksTime = 0;
+	private final TickStatistics statistics = new TickStatistics();
 
 	private long lastTick;
 	private int currentRate;
@@ -54,28 +52,12 @@ public class TickTracker implements Comparable<TickTracker>
 
 	public long getAvgNanos()
 	{
-		return( this.LastFiveTicksTime / 5 );
+		return this.statistics.getAverage();
 	}
 
-	@Override
-	public int compareTo( @Nonnull final TickTracker t )
+	public TickStatistics getStatistics()
 	{
-		int next = Long.compare( this.getNextTick(), t.getNextTick() );
-
-		if( next != 0 )
-		{
-			return next;
-		}
-
-		int last = Long.compare( this.getLastTick(), t.getLastTick() );
-
-		if( last != 0 )
-		{
-			return last;
-		}
-
-		return Integer.compare( this.getCurrentRate(), t.getCurrentRate() );
-
+		return this.statistics;
 	}
 
 	public void addEntityCrashInfo( final CrashReportCategory crashreportcategory )
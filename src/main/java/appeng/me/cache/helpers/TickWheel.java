@@ -0,0 +1,176 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+
+/**
+ * A hashed timing wheel for scheduling entries on a specific tick.
+ *
+ * Every entry is linked into the bucket of its tick, so scheduling, rescheduling and cancelling are constant time.
+ * Entries more than one rotation ahead share a bucket with nearer ones and are skipped until their tick is reached.
+ */
+public class TickWheel<T extends TickWheel.Entry<T>>
+{
+
+	private static final int BUCKETS = 512;
+	private static final int MASK = BUCKETS - 1;
+
+	private final Entry<T>[] heads = new Entry[BUCKETS];
+	private final Entry<T>[] tails = new Entry[BUCKETS];
+	private int size = 0;
+
+	// the last entry poll() skipped on cursorTick, so draining a bucket visits each entry once.
+	private Entry<T> cursor;
+	private long cursorTick = Long.MIN_VALUE;
+
+	/**
+	 * Schedules the entry on the given tick, replacing a previous schedule of the same entry.
+	 */
+	public void schedule( final T entry, final long tick )
+	{
+		this.cancel( entry );
+
+		final int bucket = (int) ( tick & MASK );
+
+		entry.scheduledTick = tick;
+		entry.scheduled = true;
+		entry.previous = this.tails[bucket];
+		entry.next = null;
+
+		if( this.tails[bucket] == null )
+		{
+			this.heads[bucket] = entry;
+		}
+		else
+		{
+			this.tails[bucket].next = entry;
+		}
+
+		this.tails[bucket] = entry;
+		this.size++;
+	}
+
+	/**
+	 * @return true if the entry was scheduled.
+	 */
+	public boolean cancel( final T entry )
+	{
+		if( !entry.scheduled )
+		{
+			return false;
+		}
+
+		final int bucket = (int) ( entry.scheduledTick & MASK );
+
+		if( entry == this.cursor )
+		{
+			this.cursor = entry.previous;
+		}
+
+		if( entry.previous == null )
+		{
+			this.heads[bucket] = entry.next;
+		}
+		else
+		{
+			entry.previous.next = entry.next;
+		}
+
+		if( entry.next == null )
+		{
+			this.tails[bucket] = entry.previous;
+		}
+		else
+		{
+			entry.next.previous = entry.previous;
+		}
+
+		entry.previous = null;
+		entry.next = null;
+		entry.scheduled = false;
+		this.size--;
+
+		return true;
+	}
+
+	/**
+	 * Removes and returns the next entry scheduled for the given tick, in the order they were scheduled.
+	 *
+	 * Entries scheduled for the same tick while polling are returned by later calls.
+	 *
+	 * @return the entry, or null if nothing else is due on this tick.
+	 */
+	public T poll( final long tick )
+	{
+		if( tick != this.cursorTick )
+		{
+			this.cursorTick = tick;
+			this.cursor = null;
+		}
+
+		Entry<T> entry = this.cursor == null ? this.heads[(int) ( tick & MASK )] : this.cursor.next;
+
+		while( entry != null && entry.scheduledTick != tick )
+		{
+			this.cursor = entry;
+			entry = entry.next;
+		}
+
+		if( entry == null )
+		{
+			return null;
+		}
+
+		final T due = (T) entry;
+		this.cancel( due );
+		return due;
+	}
+
+	public int size()
+	{
+		return this.size;
+	}
+
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	/**
+	 * The links of an entry into a {@link TickWheel}, an entry can only be part of one wheel at a time.
+	 */
+	public abstract static class Entry<T extends Entry<T>>
+	{
+
+		Entry<T> previous;
+		Entry<T> next;
+		long scheduledTick;
+		boolean scheduled;
+
+		public boolean isScheduled()
+		{
+			return this.scheduled;
+		}
+
+		public long getScheduledTick()
+		{
+			return this.scheduledTick;
+		}
+	}
+}
@@ -49,6 +49,7 @@ import appeng.api.networking.crafting.CraftingItemList;
 import appeng.api.networking.crafting.ICraftingCPU;
 import appeng.api.networking.crafting.ICraftingGrid;
 import appeng.api.networking.crafting.ICraftingJob;
+import appeng.api.networking.crafting.ICraftingBatchMedium;
 import appeng.api.networking.crafting.ICraftingLink;
 import appeng.api.networking.crafting.ICraftingMedium;
 import appeng.api.networking.crafting.ICraftingPatternDetails;
@@ -103,6 +104,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 	private IAEItemStack finalOutput;
 	private boolean waiting = false;
 	private IItemList<IAEItemStack> waitingFor = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
+	// the condensed outputs of all remaining tasks, kept in sync with their progress.
+	private final IItemList<IAEItemStack> pendingOutputs = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
 	private long availableStorage = 0;
 	private MachineSource machineSrc = null;
 	private int accelerator = 0;
@@ -554,7 +557,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 
 		this.isComplete = true;
 		this.myLastLink = null;
-		this.tasks.clear();
+		this.clearTasks();
 
 		// final ImmutableSet<IAEItemStack> items = ImmutableSet.copyOf( this.waitingFor );
 		final List<IAEItemStack> items = new ArrayList<>( this.waitingFor.size() );
@@ -646,6 +649,32 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 
 			if( this.canCraft( details, details.getCondensedInputs() ) )
 			{
+				if( !details.isCraftable() && e.getValue().value > 1 )
+				{
+					for( final ICraftingMedium m : cc.getMediums( details ) )
+					{
+						if( e.getValue().value <= 1 || this.remainingOperations == 0 )
+						{
+							break;
+						}
+
+						if( m instanceof ICraftingBatchMedium && !m.isBusy() )
+						{
+							this.pushPatternBatch( eg, details, e.getValue(), (ICraftingBatchMedium) m );
+						}
+					}
+
+					if( this.remainingOperations == 0 )
+					{
+						return;
+					}
+
+					if( e.getValue().value <= 0 )
+					{
+						continue;
+					}
+				}
+
 				InventoryCrafting ic = null;
 
 				for( final ICraftingMedium m : cc.getMediums( e.getKey() ) )
@@ -799,7 +828,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 							ic = null; // hand off complete!
 							this.markDirty();
 
-							e.getValue().value--;
+							this.updateTaskProgress( details, e.getValue(), -1 );
 							if( e.getValue().value <= 0 )
 							{
 								continue;
@@ -829,6 +858,72 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 		}
 	}
 
+	/**
+	 * Pushes as many copies of a processing pattern as the medium accepts, as a single operation.
+	 */
+	private void pushPatternBatch( final IEnergyGrid eg, final ICraftingPatternDetails details, final TaskProgress progress, final ICraftingBatchMedium medium )
+	{
+		final IAEItemStack[] inputs = details.getCondensedInputs();
+		long copies = progress.value;
+		double power = 0;
+
+		for( final IAEItemStack input : inputs )
+		{
+			final IAEItemStack available = this.inventory.getItemList().findPrecise( input );
+			if( available == null )
+			{
+				return;
+			}
+
+			copies = Math.min( copies, available.getStackSize() / input.getStackSize() );
+			power += input.getStackSize();
+		}
+
+		if( power > 0 )
+		{
+			copies = Math.min( copies, (long) ( ( eg.extractAEPower( power * copies, Actionable.SIMULATE, PowerMultiplier.CONFIG ) + 0.01 ) / power ) );
+		}
+
+		// single copies go through the regular push.
+		if( copies < 2 )
+		{
+			return;
+		}
+
+		final int accepted = medium.pushPatternBatch( details, (int) Math.min( copies, Integer.MAX_VALUE ) );
+		if( accepted <= 0 )
+		{
+			return;
+		}
+
+		eg.extractAEPower( power * accepted, Actionable.MODULATE, PowerMultiplier.CONFIG );
+
+		for( final IAEItemStack input : inputs )
+		{
+			final IAEItemStack extracted = this.inventory.extractItems( input.copy().setStackSize( input.getStackSize() * accepted ), Actionable.MODULATE,
+					this.machineSrc );
+
+			if( extracted != null )
+			{
+				this.postChange( extracted, this.machineSrc );
+			}
+		}
+
+		this.somethingChanged = true;
+		this.remainingOperations--;
+
+		for( final IAEItemStack out : details.getCondensedOutputs() )
+		{
+			final IAEItemStack batch = out.copy().setStackSize( out.getStackSize() * accepted );
+			this.postChange( batch, this.machineSrc );
+			this.waitingFor.add( batch.copy() );
+			this.postCraftingStatusChange( batch.copy() );
+		}
+
+		this.markDirty();
+		this.updateTaskProgress( details, progress, -accepted );
+	}
+
 	private void storeItems()
 	{
 		final IGrid g = this.getGrid();
@@ -839,22 +934,24 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 		}
 
 		final IStorageGrid sg = g.getCache( IStorageGrid.class );
-		final IMEInventory<IAEItemStack> ii = sg.getInventory( AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ) );
+		final IItemStorageChannel channel = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class );
+		final IMEInventory<IAEItemStack> ii = sg.getInventory( channel );
+		final IItemList<IAEItemStack> toStore = channel.createList();
 
-		for( IAEItemStack is : this.inventory.getItemList() )
+		for( final IAEItemStack is : this.inventory.getItemList() )
 		{
-			is = this.inventory.extractItems( is.copy(), Actionable.MODULATE, this.machineSrc );
+			final IAEItemStack extracted = this.inventory.extractItems( is.copy(), Actionable.MODULATE, this.machineSrc );
 
-			if( is != null )
+			if( extracted != null )
 			{
-				this.postChange( is, this.machineSrc );
-				is = ii.injectItems( is, Actionable.MODULATE, this.machineSrc );
+				this.postChange( extracted, this.machineSrc );
+				toStore.add( extracted );
 			}
+		}
 
-			if( is != null )
-			{
-				this.inventory.injectItems( is, Actionable.MODULATE, this.machineSrc );
-			}
+		for( final IAEItemStack leftover : ii.injectBatch( toStore, Actionable.MODULATE, this.machineSrc ) )
+		{
+			this.inventory.injectItems( leftover, Actionable.MODULATE, this.machineSrc );
 		}
 
 		if( this.inventory.getItemList().isEmpty() )
@@ -925,13 +1022,13 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 			}
 			else
 			{
-				this.tasks.clear();
+				this.clearTasks();
 				this.inventory.getItemList().resetStatus();
 			}
 		}
 		catch( final CraftBranchFailure e )
 		{
-			this.tasks.clear();
+			this.clearTasks();
 			this.inventory.getItemList().resetStatus();
 			// AELog.error( e );
 		}
@@ -1040,14 +1137,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 				}
 				break;
 			case PENDING:
-				for( final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet() )
+				for( final IAEItemStack ais : this.pendingOutputs )
 				{
-					for( IAEItemStack ais : t.getKey().getCondensedOutputs() )
-					{
-						ais = ais.copy();
-						ais.setStackSize( ais.getStackSize() * t.getValue().value );
-						list.add( ais );
-					}
+					list.add( ais );
 				}
 				break;
 			case STORAGE:
@@ -1062,14 +1154,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 					list.add( ais );
 				}
 
-				for( final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet() )
+				for( final IAEItemStack ais : this.pendingOutputs )
 				{
-					for( IAEItemStack ais : t.getKey().getCondensedOutputs() )
-					{
-						ais = ais.copy();
-						ais.setStackSize( ais.getStackSize() * t.getValue().value );
-						list.add( ais );
-					}
+					list.add( ais );
 				}
 				break;
 		}
@@ -1095,7 +1182,23 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 			this.tasks.put( details, i = new TaskProgress() );
 		}
 
-		i.value += crafts;
+		this.updateTaskProgress( details, i, crafts );
+	}
+
+	private void updateTaskProgress( final ICraftingPatternDetails details, final TaskProgress progress, final long crafts )
+	{
+		progress.value += crafts;
+
+		for( final IAEItemStack ais : details.getCondensedOutputs() )
+		{
+			this.pendingOutputs.add( ais.copy().setStackSize( ais.getStackSize() * crafts ) );
+		}
+	}
+
+	private void clearTasks()
+	{
+		this.tasks.clear();
+		this.pendingOutputs.resetStatus();
 	}
 
 	public IAEItemStack getItemStack( final IAEItemStack what, final CraftingItemList storage2 )
@@ -1111,21 +1214,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 				is = this.waitingFor.findPrecise( what );
 				break;
 			case PENDING:
-
-				is = what.copy();
-				is.setStackSize( 0 );
-
-				for( final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet() )
-				{
-					for( final IAEItemStack ais : t.getKey().getCondensedOutputs() )
-					{
-						if( ais.equals( is ) )
-						{
-							is.setStackSize( is.getStackSize() + ais.getStackSize() * t.getValue().value );
-						}
-					}
-				}
-
+				is = this.pendingOutputs.findPrecise( what );
 				break;
 			default:
 			case ALL:
@@ -1242,7 +1331,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU
 				if( details != null )
 				{
 					final TaskProgress tp = new TaskProgress();
-					tp.value = item.getLong( "craftingProgress" );
+					this.updateTaskProgress( details, tp, item.getLong( "craftingProgress" ) );
 					this.tasks.put( details, tp );
 				}
 			}
@@ -22,6 +22,7 @@ package appeng.me.helpers;
 import appeng.api.config.Actionable;
 import appeng.api.config.PowerMultiplier;
 import appeng.api.networking.IGridNode;
+import appeng.api.networking.energy.IEnergyGrid;
 import appeng.api.networking.energy.IEnergySource;
 
 
@@ -46,4 +47,16 @@ public class ChannelPowerSrc implements IEnergySource
 		}
 		return 0.0;
 	}
+
+	/**
+	 * @return the wrapped grid while the channel is active, null otherwise.
+	 */
+	public IEnergyGrid getEnergyGrid()
+	{
+		if( this.node.isActive() && this.realSrc instanceof IEnergyGrid )
+		{
+			return (IEnergyGrid) this.realSrc;
+		}
+		return null;
+	}
 }
@@ -69,16 +69,7 @@ public class PathSegment
 						// close the semi open.
 						if( !this.semiOpen.contains( pi ) )
 						{
-							final boolean worked;
-
-							if( flags.contains( GridFlags.COMPRESSED_CHANNEL ) )
-							{
-								worked = this.useDenseChannel( pi );
-							}
-							else
-							{
-								worked = this.useChannel( pi );
-							}
+							final boolean worked = this.giveChannel( pi );
 
 							if( worked && flags.contains( GridFlags.MULTIBLOCK ) )
 							{
@@ -109,6 +100,21 @@ public class PathSegment
 		return this.open.isEmpty();
 	}
 
+	/**
+	 * Tries to reserve a channel for the given item along its current controller route.
+	 *
+	 * @return true if every item on the route had room for another channel
+	 */
+	public boolean giveChannel( final IPathItem pi )
+	{
+		if( pi.getFlags().contains( GridFlags.COMPRESSED_CHANNEL ) )
+		{
+			return this.useDenseChannel( pi );
+		}
+
+		return this.useChannel( pi );
+	}
+
 	private boolean useDenseChannel( final IPathItem start )
 	{
 		IPathItem pi = start;
@@ -19,6 +19,10 @@
 package appeng.me.storage;
 
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.items.IItemHandler;
@@ -43,13 +47,11 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 	private static final String ITEM_TYPE_TAG = "it";
 	private static final String ITEM_COUNT_TAG = "ic";
 	private static final String ITEM_SLOT = "#";
-	private static final String ITEM_SLOT_COUNT = "@";
 	protected static final String ITEM_PRE_FORMATTED_COUNT = "PF";
 	protected static final String ITEM_PRE_FORMATTED_SLOT = "PF#";
 	protected static final String ITEM_PRE_FORMATTED_NAME = "PN";
 	protected static final String ITEM_PRE_FORMATTED_FUZZY = "FP";
 	private static final String[] ITEM_SLOT_KEYS = new String[MAX_ITEM_TYPES];
-	private static final String[] ITEM_SLOT_COUNT_KEYS = new String[MAX_ITEM_TYPES];
 	private final NBTTagCompound tagCompound;
 	protected final ISaveProvider container;
 	private int maxItemTypes = MAX_ITEM_TYPES;
@@ -60,13 +62,16 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 	protected final IStorageCell<T> cellType;
 	protected final int itemsPerByte;
 	private boolean isPersisted = true;
+	private boolean inBatch = false;
+	private boolean batchChanged = false;
+
+	private final CellSlots<T> slots = new CellSlots<>( MAX_ITEM_TYPES );
 
 	static
 	{
 		for( int x = 0; x < MAX_ITEM_TYPES; x++ )
 		{
 			ITEM_SLOT_KEYS[x] = ITEM_SLOT + x;
-			ITEM_SLOT_COUNT_KEYS[x] = ITEM_SLOT_COUNT + x;
 		}
 	}
 
@@ -113,22 +118,42 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 		}
 
 		int itemCount = 0;
-
-		// add new pretty stuff...
-		int x = 0;
+		final List<T> items = new ArrayList<>( this.cellItems.size() );
 		for( final T v : this.cellItems )
 		{
+			items.add( v );
+		}
+
+		final BitSet added = new BitSet( MAX_ITEM_TYPES );
+		final BitSet used = new BitSet( MAX_ITEM_TYPES );
+		final int[] itemSlots = this.slots.assign( items, added );
+		final long[] counts = new long[MAX_ITEM_TYPES];
+
+		for( int i = 0; i < items.size(); i++ )
+		{
+			final T v = items.get( i );
+			final int slot = itemSlots[i];
 			itemCount += v.getStackSize();
 
-			final NBTTagCompound g = new NBTTagCompound();
-			v.writeToNBT( g );
-			this.tagCompound.setTag( ITEM_SLOT_KEYS[x], g );
-			this.tagCompound.setInteger( ITEM_SLOT_COUNT_KEYS[x], (int) v.getStackSize() );
+			// only new types are written, the definition of a known type never changes.
+			if( added.get( slot ) )
+			{
+				final NBTTagCompound g = new NBTTagCompound();
+				v.writeToNBT( g );
+				this.tagCompound.setTag( ITEM_SLOT_KEYS[slot], g );
+			}
+
+			counts[slot] = v.getStackSize();
+			used.set( slot );
+		}
 
-			x++;
+		// clean any old crusty stuff...
+		for( int x = used.nextClearBit( 0 ); x < MAX_ITEM_TYPES; x = used.nextClearBit( x + 1 ) )
+		{
+			this.tagCompound.removeTag( ITEM_SLOT_KEYS[x] );
 		}
 
-		final short oldStoredItems = this.storedItems;
+		CellSlots.writeCounts( this.tagCompound, counts );
 
 		this.storedItems = (short) this.cellItems.size();
 		if( this.cellItems.isEmpty() )
@@ -150,13 +175,6 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 			this.tagCompound.setInteger( ITEM_COUNT_TAG, itemCount );
 		}
 
-		// clean any old crusty stuff...
-		for( ; x < oldStoredItems && x < this.maxItemTypes; x++ )
-		{
-			this.tagCompound.removeTag( ITEM_SLOT_KEYS[x] );
-			this.tagCompound.removeTag( ITEM_SLOT_COUNT_KEYS[x] );
-		}
-
 		this.isPersisted = true;
 	}
 
@@ -171,6 +189,37 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 		}
 
 		this.isPersisted = false;
+
+		if( this.inBatch )
+		{
+			this.batchChanged = true;
+			return;
+		}
+
+		this.notifyContainer();
+	}
+
+	/**
+	 * Until {@link #endBatch()}, changes only update the totals and the container is told about them once at the end.
+	 */
+	protected void beginBatch()
+	{
+		this.inBatch = true;
+	}
+
+	protected void endBatch()
+	{
+		this.inBatch = false;
+
+		if( this.batchChanged )
+		{
+			this.batchChanged = false;
+			this.notifyContainer();
+		}
+	}
+
+	private void notifyContainer()
+	{
 		if( this.container != null )
 		{
 			this.container.saveChanges( this );
@@ -191,14 +240,27 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 
 		this.cellItems.resetStatus(); // clears totals and stuff.
 
-		final int types = (int) this.getStoredItemTypes();
+		final long[] counts = CellSlots.readCounts( this.tagCompound, MAX_ITEM_TYPES, (int) this.getStoredItemTypes() );
 		boolean needsUpdate = false;
 
-		for( int slot = 0; slot < types; slot++ )
+		for( int slot = 0; slot < MAX_ITEM_TYPES; slot++ )
 		{
-			NBTTagCompound compoundTag = this.tagCompound.getCompoundTag( ITEM_SLOT_KEYS[slot] );
-			int stackSize = this.tagCompound.getInteger( ITEM_SLOT_COUNT_KEYS[slot] );
-			needsUpdate |= !this.loadCellItem( compoundTag, stackSize );
+			final long stackSize = counts[slot];
+
+			if( stackSize <= 0 )
+			{
+				continue;
+			}
+
+			final T loaded = this.loadCellItem( this.tagCompound.getCompoundTag( ITEM_SLOT_KEYS[slot] ), stackSize );
+			if( loaded == null )
+			{
+				needsUpdate = true;
+			}
+			else
+			{
+				this.slots.load( slot, loaded );
+			}
 		}
 
 		if( needsUpdate )
@@ -212,9 +274,9 @@ public abstract class AbstractCellInventory<T extends IAEStack<T>> implements IC
 	 *
 	 * @param compoundTag
 	 * @param stackSize
-	 * @return true when successfully loaded
+	 * @return the stack stored in the cell items, or null if it could not be loaded
 	 */
-	protected abstract boolean loadCellItem( NBTTagCompound compoundTag, int stackSize );
+	protected abstract T loadCellItem( NBTTagCompound compoundTag, long stackSize );
 
 	@Override
 	public IItemList<T> getAvailableItems( final IItemList<T> out )
@@ -15,6 +15,7 @@ import appeng.api.storage.ISaveProvider;
 import appeng.api.storage.IStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.util.item.AEStack;
@@ -206,6 +207,27 @@ public class BasicCellInventory<T extends IAEStack<T>> extends AbstractCellInven
 		return input;
 	}
 
+	@Override
+	public IItemList<T> injectBatch( final IItemList<T> input, final Actionable mode, final IActionSource src )
+	{
+		final IItemList<T> leftovers = this.channel.createList();
+
+		this.beginBatch();
+		try
+		{
+			for( final T stack : input )
+			{
+				leftovers.add( this.injectItems( stack.copy(), mode, src ) );
+			}
+		}
+		finally
+		{
+			this.endBatch();
+		}
+
+		return leftovers;
+	}
+
 	@Override
 	public T extractItems( T request, Actionable mode, IActionSource src )
 	{
@@ -246,6 +268,27 @@ public class BasicCellInventory<T extends IAEStack<T>> extends AbstractCellInven
 		return Results;
 	}
 
+	@Override
+	public IItemList<T> extractBatch( final IItemList<T> request, final Actionable mode, final IActionSource src )
+	{
+		final IItemList<T> extracted = this.channel.createList();
+
+		this.beginBatch();
+		try
+		{
+			for( final T stack : request )
+			{
+				extracted.add( this.extractItems( stack.copy(), mode, src ) );
+			}
+		}
+		finally
+		{
+			this.endBatch();
+		}
+
+		return extracted;
+	}
+
 	@Override
 	public IStorageChannel<T> getChannel()
 	{
@@ -253,7 +296,7 @@ public class BasicCellInventory<T extends IAEStack<T>> extends AbstractCellInven
 	}
 
 	@Override
-	protected boolean loadCellItem( NBTTagCompound compoundTag, int stackSize )
+	protected T loadCellItem( NBTTagCompound compoundTag, long stackSize )
 	{
 		// Now load the item stack
 		final T t;
@@ -263,7 +306,7 @@ public class BasicCellInventory<T extends IAEStack<T>> extends AbstractCellInven
 			if( t == null )
 			{
 				AELog.warn( "Removing item " + compoundTag + " from storage cell because the associated item type couldn't be found." );
-				return false;
+				return null;
 			}
 		}
 		catch( Throwable ex )
@@ -271,18 +314,14 @@ public class BasicCellInventory<T extends IAEStack<T>> extends AbstractCellInven
 			if( AEConfig.instance().isRemoveCrashingItemsOnLoad() )
 			{
 				AELog.warn( ex, "Removing item " + compoundTag + " from storage cell because loading the ItemStack crashed." );
-				return false;
+				return null;
 			}
 			throw ex;
 		}
 
 		t.setStackSize( stackSize );
+		this.cellItems.add( t );
 
-		if( stackSize > 0 )
-		{
-			this.cellItems.add( t );
-		}
-
-		return true;
+		return this.cellItems.findPrecise( t );
 	}
 }
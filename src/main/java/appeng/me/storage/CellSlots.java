@@ -0,0 +1,187 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+
+/**
+ * The NBT slots of the types stored in a cell. A type keeps its slot for as long as it stays in the cell, so unchanged
+ * types never have to be written again.
+ *
+ * Counts are stored as longs, split into pairs of a single int array. Cells written before that stored an int tag per
+ * slot, they are still read and converted on the next write. Older versions can not read the packed counts.
+ */
+final class CellSlots<K>
+{
+
+	private static final String SLOT_COUNTS = "ics";
+	private static final String LEGACY_SLOT_COUNT = "@";
+
+	private final Object[] slotKeys;
+	private final Map<K, Integer> keySlots = new HashMap<>();
+
+	CellSlots( final int slots )
+	{
+		this.slotKeys = new Object[slots];
+	}
+
+	/**
+	 * Records the type a slot held when the cell was loaded.
+	 */
+	void load( final int slot, final K key )
+	{
+		this.slotKeys[slot] = key;
+		this.keySlots.put( key, slot );
+	}
+
+	/**
+	 * Updates the slots to hold exactly the given types. Slots of types which are gone are freed before new types get
+	 * one, so a full cell can swap types.
+	 *
+	 * @param keys the stored types
+	 * @param added receives the slots which were given to a new type
+	 *
+	 * @return the slot of every type, in the order of keys
+	 */
+	int[] assign( final List<K> keys, final BitSet added )
+	{
+		final int[] slots = new int[keys.size()];
+		final BitSet seen = new BitSet( this.slotKeys.length );
+		final List<Integer> unassigned = new ArrayList<>();
+
+		for( int i = 0; i < keys.size(); i++ )
+		{
+			final Integer slot = this.keySlots.get( keys.get( i ) );
+
+			if( slot == null )
+			{
+				unassigned.add( i );
+			}
+			else
+			{
+				slots[i] = slot;
+				seen.set( slot );
+			}
+		}
+
+		for( int x = 0; x < this.slotKeys.length; x++ )
+		{
+			if( this.slotKeys[x] != null && !seen.get( x ) )
+			{
+				this.keySlots.remove( this.slotKeys[x] );
+				this.slotKeys[x] = null;
+			}
+		}
+
+		int next = 0;
+		for( final int i : unassigned )
+		{
+			while( next < this.slotKeys.length && this.slotKeys[next] != null )
+			{
+				next++;
+			}
+
+			if( next == this.slotKeys.length )
+			{
+				throw new IllegalStateException( "Storage cell holds more than " + this.slotKeys.length + " types." );
+			}
+
+			this.load( next, keys.get( i ) );
+			added.set( next );
+			slots[i] = next;
+		}
+
+		return slots;
+	}
+
+	/**
+	 * @param slots the number of slots to read
+	 * @param storedTypes the number of stored types, needed for cells with the per-slot count tags
+	 *
+	 * @return the count of every slot, 0 for empty slots
+	 */
+	static long[] readCounts( final NBTTagCompound tag, final int slots, final int storedTypes )
+	{
+		final long[] counts = new long[slots];
+
+		if( !tag.hasKey( SLOT_COUNTS ) )
+		{
+			// those cells always used the first slots.
+			for( int x = 0; x < Math.min( slots, storedTypes ); x++ )
+			{
+				counts[x] = tag.getInteger( LEGACY_SLOT_COUNT + x );
+			}
+
+			return counts;
+		}
+
+		final int[] packed = tag.getIntArray( SLOT_COUNTS );
+
+		for( int x = 0; x < Math.min( slots, packed.length / 2 ); x++ )
+		{
+			counts[x] = ( (long) packed[x * 2] << 32 ) | ( packed[x * 2 + 1] & 0xffffffffL );
+		}
+
+		return counts;
+	}
+
+	/**
+	 * Writes the packed counts and removes the per-slot count tags of older cells.
+	 */
+	static void writeCounts( final NBTTagCompound tag, final long[] counts )
+	{
+		if( tag.hasKey( LEGACY_SLOT_COUNT + 0 ) )
+		{
+			for( int x = 0; x < counts.length; x++ )
+			{
+				tag.removeTag( LEGACY_SLOT_COUNT + x );
+			}
+		}
+
+		int used = counts.length;
+		while( used > 0 && counts[used - 1] == 0 )
+		{
+			used--;
+		}
+
+		if( used == 0 )
+		{
+			tag.removeTag( SLOT_COUNTS );
+			return;
+		}
+
+		final int[] packed = new int[used * 2];
+
+		for( int x = 0; x < used; x++ )
+		{
+			packed[x * 2] = (int) ( counts[x] >>> 32 );
+			packed[x * 2 + 1] = (int) counts[x];
+		}
+
+		tag.setIntArray( SLOT_COUNTS, packed );
+	}
+}
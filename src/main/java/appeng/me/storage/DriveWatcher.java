@@ -27,6 +27,7 @@ import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.ICellHandler;
 import appeng.api.storage.ICellInventoryHandler;
 import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 
 
 public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T>
@@ -59,18 +60,25 @@ public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T>
 
 		if( type == Actionable.MODULATE && ( a == null || a.getStackSize() != size ) )
 		{
-			final int newStatus = this.getStatus();
-
-			if( newStatus != this.oldStatus )
-			{
-				this.cord.blinkCell( this.getSlot() );
-				this.oldStatus = newStatus;
-			}
+			this.updateStatus();
 		}
 
 		return a;
 	}
 
+	@Override
+	public IItemList<T> injectBatch( final IItemList<T> input, final Actionable type, final IActionSource src )
+	{
+		final IItemList<T> leftovers = super.injectBatch( input, type, src );
+
+		if( type == Actionable.MODULATE )
+		{
+			this.updateStatus();
+		}
+
+		return leftovers;
+	}
+
 	@Override
 	public T extractItems( final T request, final Actionable type, final IActionSource src )
 	{
@@ -78,15 +86,33 @@ public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T>
 
 		if( type == Actionable.MODULATE && a != null )
 		{
-			final int newStatus = this.getStatus();
-
-			if( newStatus != this.oldStatus )
-			{
-				this.cord.blinkCell( this.getSlot() );
-				this.oldStatus = newStatus;
-			}
+			this.updateStatus();
 		}
 
 		return a;
 	}
+
+	@Override
+	public IItemList<T> extractBatch( final IItemList<T> request, final Actionable type, final IActionSource src )
+	{
+		final IItemList<T> extracted = super.extractBatch( request, type, src );
+
+		if( type == Actionable.MODULATE && !extracted.isEmpty() )
+		{
+			this.updateStatus();
+		}
+
+		return extracted;
+	}
+
+	private void updateStatus()
+	{
+		final int newStatus = this.getStatus();
+
+		if( newStatus != this.oldStatus )
+		{
+			this.cord.blinkCell( this.getSlot() );
+			this.oldStatus = newStatus;
+		}
+	}
 }
@@ -117,6 +117,39 @@ public class MEInventoryHandler<T extends IAEStack<T>> implements IMEInventoryHa
 		return this.internal.extractItems( request, type, src );
 	}
 
+	@Override
+	public IItemList<T> injectBatch( final IItemList<T> input, final Actionable type, final IActionSource src )
+	{
+		final IItemList<T> accepted = this.getChannel().createList();
+		final IItemList<T> leftovers = this.getChannel().createList();
+
+		for( final T stack : input )
+		{
+			( this.canAccept( stack ) ? accepted : leftovers ).add( stack );
+		}
+
+		if( !accepted.isEmpty() )
+		{
+			for( final T leftover : this.internal.injectBatch( accepted, type, src ) )
+			{
+				leftovers.add( leftover );
+			}
+		}
+
+		return leftovers;
+	}
+
+	@Override
+	public IItemList<T> extractBatch( final IItemList<T> request, final Actionable type, final IActionSource src )
+	{
+		if( !this.hasReadAccess )
+		{
+			return this.getChannel().createList();
+		}
+
+		return this.internal.extractBatch( request, type, src );
+	}
+
 	@Override
 	public IItemList<T> getAvailableItems( final IItemList<T> out )
 	{
@@ -63,6 +63,18 @@ public class MEPassThrough<T extends IAEStack<T>> implements IMEInventoryHandler
 		return this.internal.extractItems( request, type, src );
 	}
 
+	@Override
+	public IItemList<T> injectBatch( final IItemList<T> input, final Actionable type, final IActionSource src )
+	{
+		return this.internal.injectBatch( input, type, src );
+	}
+
+	@Override
+	public IItemList<T> extractBatch( final IItemList<T> request, final Actionable type, final IActionSource src )
+	{
+		return this.internal.extractBatch( request, type, src );
+	}
+
 	@Override
 	public IItemList<T> getAvailableItems( final IItemList out )
 	{
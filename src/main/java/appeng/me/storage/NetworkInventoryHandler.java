@@ -21,10 +21,16 @@ package appeng.me.storage;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 
@@ -48,11 +54,21 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 	private static final ThreadLocal<Deque> DEPTH_MOD = new ThreadLocal<>();
 	private static final ThreadLocal<Deque> DEPTH_SIM = new ThreadLocal<>();
 	private static final Comparator<Integer> PRIORITY_SORTER = ( o1, o2 ) -> Integer.compare( o2, o1 );
+	private static final int MAX_ROUTES = 4096;
 
 	private static int currentPass = 0;
 	private final IStorageChannel<T> myChannel;
 	private final SecurityCache security;
 	private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> priorityInventory;
+	// least recently used routes are dropped first, they are rebuilt by the next injection of their type.
+	private final Map<T, Route<T>> routes = new LinkedHashMap<T, Route<T>>( 16, 0.75f, true )
+	{
+		@Override
+		protected boolean removeEldestEntry( final Map.Entry<T, Route<T>> eldest )
+		{
+			return this.size() > MAX_ROUTES;
+		}
+	};
 	private int myPass = 0;
 
 	public NetworkInventoryHandler( final IStorageChannel<T> chan, final SecurityCache security )
@@ -62,6 +78,28 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 		this.priorityInventory = new TreeMap<>( PRIORITY_SORTER );
 	}
 
+	/**
+	 * Forgets the routing information for every type which appeared in a handler without passing through this
+	 * inventory, the next injection of that type will do a full scan again.
+	 *
+	 * Removals are ignored, a route is allowed to contain handlers which no longer store the type.
+	 */
+	public void invalidateRoutes( final Iterable<? extends IAEStack<?>> changes )
+	{
+		if( this.routes.isEmpty() )
+		{
+			return;
+		}
+
+		for( final IAEStack<?> change : changes )
+		{
+			if( change != null && change.getStackSize() > 0 )
+			{
+				this.routes.remove( change );
+			}
+		}
+	}
+
 	public void addNewStorage( final IMEInventoryHandler<T> h )
 	{
 		final int priority = h.getPriority();
@@ -72,6 +110,29 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 		}
 
 		list.add( h );
+
+		// a new handler might be partitioned for anything
+		this.routes.clear();
+	}
+
+	public void removeStorage( final IMEInventoryHandler<T> h )
+	{
+		// the priority might have changed since it was added, so look in every bucket.
+		final Iterator<List<IMEInventoryHandler<T>>> i = this.priorityInventory.values().iterator();
+		while( i.hasNext() )
+		{
+			final List<IMEInventoryHandler<T>> list = i.next();
+
+			if( list.removeIf( existing -> existing == h ) )
+			{
+				this.routes.clear();
+
+				if( list.isEmpty() )
+				{
+					i.remove();
+				}
+			}
+		}
 	}
 
 	@Override
@@ -88,17 +149,243 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 			return input;
 		}
 
-		for( final List<IMEInventoryHandler<T>> invList : this.priorityInventory.values() )
+		input = this.injectRouted( input, type, src );
+
+		this.surface( this, type );
+
+		return input;
+	}
+
+	/**
+	 * Enters the network and checks the permission once for the whole batch.
+	 */
+	@Override
+	public IItemList<T> injectBatch( final IItemList<T> input, final Actionable type, final IActionSource src )
+	{
+		final IItemList<T> leftovers = this.myChannel.createList();
+
+		if( this.diveList( this, type ) )
 		{
-			Iterator<IMEInventoryHandler<T>> ii = invList.iterator();
-			while( ii.hasNext() && input != null )
+			this.addCopies( leftovers, input );
+			return leftovers;
+		}
+
+		if( this.testPermission( src, SecurityPermissions.INJECT ) )
+		{
+			this.surface( this, type );
+			this.addCopies( leftovers, input );
+			return leftovers;
+		}
+
+		this.injectRoutedBatch( input, leftovers, type, src );
+
+		this.surface( this, type );
+
+		return leftovers;
+	}
+
+	/**
+	 * Same walk as {@link #injectRouted}, but one bucket at a time for the whole batch, so every handler receives its
+	 * share of the batch in a single call.
+	 */
+	private void injectRoutedBatch( final IItemList<T> input, final IItemList<T> leftovers, final Actionable type, final IActionSource src )
+	{
+		final List<T> what = new ArrayList<>();
+		final List<T> remaining = new ArrayList<>();
+		final List<Route<T>> known = new ArrayList<>();
+		final List<Route<T>> routes = new ArrayList<>();
+		final List<Integer> unrouted = new ArrayList<>();
+
+		for( final T stack : input )
+		{
+			final Route<T> route = this.routes.get( stack );
+
+			if( route == null )
 			{
-				final IMEInventoryHandler<T> inv = ii.next();
+				unrouted.add( what.size() );
+			}
+
+			what.add( stack );
+			remaining.add( stack.copy() );
+			known.add( route );
+			routes.add( route != null ? route : new Route<>() );
+		}
+
+		for( final Entry<Integer, List<IMEInventoryHandler<T>>> bucket : this.priorityInventory.entrySet() )
+		{
+			final Integer priority = bucket.getKey();
+			final List<IMEInventoryHandler<T>> invList = bucket.getValue();
 
-				if( inv.validForPass( 1 ) && inv
-						.canAccept( input ) && ( inv.isPrioritized( input ) || inv.extractItems( input, Actionable.SIMULATE, src ) != null ) )
+			// the stacks with a known route only visit the handlers which stored or were partitioned for them.
+			final Map<IMEInventoryHandler<T>, List<Integer>> routed = new IdentityHashMap<>();
+			for( int i = 0; i < what.size(); i++ )
+			{
+				final List<IMEInventoryHandler<T>> candidates = known.get( i ) == null ? null : known.get( i ).get( priority );
+
+				if( candidates != null && remaining.get( i ) != null )
+				{
+					for( final IMEInventoryHandler<T> inv : candidates )
+					{
+						routed.computeIfAbsent( inv, h -> new ArrayList<>() ).add( i );
+					}
+				}
+			}
+
+			for( final IMEInventoryHandler<T> inv : invList )
+			{
+				final List<Integer> share = new ArrayList<>();
+
+				for( final int i : routed.getOrDefault( inv, Collections.emptyList() ) )
+				{
+					if( remaining.get( i ) != null && this.isFirstPassTarget( inv, remaining.get( i ), src ) )
+					{
+						share.add( i );
+					}
+				}
+
+				// the route has to be complete, so keep checking after the input has been used up.
+				for( final int i : unrouted )
 				{
-					input = inv.injectItems( input, type, src );
+					final T current = remaining.get( i );
+					final boolean target = this.isFirstPassTarget( inv, current != null ? current : what.get( i ), src );
+
+					if( target || ( inv.validForPass( 1 ) && !inv.validForPass( 2 ) ) )
+					{
+						routes.get( i ).add( priority, invList, inv );
+					}
+
+					if( target && current != null )
+					{
+						share.add( i );
+					}
+				}
+
+				this.injectShare( inv, share, remaining, type, src );
+			}
+
+			// see injectRouted, prioritized inventories are ignored in the second pass.
+			for( final IMEInventoryHandler<T> inv : invList )
+			{
+				if( !inv.validForPass( 2 ) )
+				{
+					continue;
+				}
+
+				final List<Integer> share = new ArrayList<>();
+				for( int i = 0; i < what.size(); i++ )
+				{
+					final T current = remaining.get( i );
+
+					if( current != null && inv.canAccept( current ) && !inv.isPrioritized( current ) )
+					{
+						share.add( i );
+					}
+				}
+
+				final long[] before = new long[share.size()];
+				for( int x = 0; x < share.size(); x++ )
+				{
+					before[x] = remaining.get( share.get( x ) ).getStackSize();
+				}
+
+				this.injectShare( inv, share, remaining, type, src );
+
+				for( int x = 0; x < share.size(); x++ )
+				{
+					final T leftover = remaining.get( share.get( x ) );
+
+					if( leftover == null || leftover.getStackSize() < before[x] )
+					{
+						// it stores this type now, so it has to be considered during the first pass.
+						routes.get( share.get( x ) ).add( priority, invList, inv );
+					}
+				}
+			}
+		}
+
+		// many simulations are never followed by an injection, so only real injections remember their routes.
+		if( type == Actionable.MODULATE )
+		{
+			for( final int i : unrouted )
+			{
+				this.routes.put( what.get( i ).copy(), routes.get( i ) );
+			}
+		}
+
+		for( final T leftover : remaining )
+		{
+			leftovers.add( leftover );
+		}
+	}
+
+	/**
+	 * Injects the given stacks into the handler with one batch and replaces them with their leftovers.
+	 */
+	private void injectShare( final IMEInventoryHandler<T> inv, final List<Integer> share, final List<T> remaining, final Actionable type, final IActionSource src )
+	{
+		if( share.isEmpty() )
+		{
+			return;
+		}
+
+		final IItemList<T> batch = this.myChannel.createList();
+		for( final int i : share )
+		{
+			batch.add( remaining.get( i ) );
+		}
+
+		final IItemList<T> notStored = inv.injectBatch( batch, type, src );
+
+		for( final int i : share )
+		{
+			final T leftover = notStored.findPrecise( remaining.get( i ) );
+			remaining.set( i, leftover == null || leftover.getStackSize() <= 0 ? null : leftover );
+		}
+	}
+
+	private T injectRouted( T input, final Actionable type, final IActionSource src )
+	{
+		final Route<T> known = this.routes.get( input );
+		final Route<T> route = known != null ? known : new Route<>();
+		final T what = input;
+
+		for( final Entry<Integer, List<IMEInventoryHandler<T>>> bucket : this.priorityInventory.entrySet() )
+		{
+			final List<IMEInventoryHandler<T>> invList = bucket.getValue();
+
+			if( known != null )
+			{
+				// only visit the handlers which stored or were partitioned for this type when the route was built.
+				final List<IMEInventoryHandler<T>> candidates = known.get( bucket.getKey() );
+				if( candidates != null )
+				{
+					for( int x = 0; x < candidates.size() && input != null; x++ )
+					{
+						final IMEInventoryHandler<T> inv = candidates.get( x );
+
+						if( this.isFirstPassTarget( inv, input, src ) )
+						{
+							input = inv.injectItems( input, type, src );
+						}
+					}
+				}
+			}
+			else
+			{
+				// the route has to be complete, so keep checking after the input has been used up.
+				for( final IMEInventoryHandler<T> inv : invList )
+				{
+					final boolean target = this.isFirstPassTarget( inv, input != null ? input : what, src );
+
+					if( target || ( inv.validForPass( 1 ) && !inv.validForPass( 2 ) ) )
+					{
+						route.add( bucket.getKey(), invList, inv );
+					}
+
+					if( target && input != null )
+					{
+						input = inv.injectItems( input, type, src );
+					}
 				}
 			}
 
@@ -106,23 +393,48 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 			// during the first pass, they will do so in the second, but as this is stateless we will just report twice
 			// the amount of storable items.
 			// ignores craftingcache on the second pass.
-			ii = invList.iterator();
+			final Iterator<IMEInventoryHandler<T>> ii = invList.iterator();
 			while( ii.hasNext() && input != null )
 			{
 				final IMEInventoryHandler<T> inv = ii.next();
 
 				if( inv.validForPass( 2 ) && inv.canAccept( input ) && !inv.isPrioritized( input ) )
 				{
-					input = inv.injectItems( input, type, src );
+					final T leftover = inv.injectItems( input, type, src );
+
+					if( leftover == null || leftover.getStackSize() < input.getStackSize() )
+					{
+						// it stores this type now, so it has to be considered during the first pass.
+						route.add( bucket.getKey(), invList, inv );
+					}
+
+					input = leftover;
 				}
 			}
 		}
 
-		this.surface( this, type );
+		if( known == null && type == Actionable.MODULATE )
+		{
+			this.routes.put( what.copy(), route );
+		}
 
 		return input;
 	}
 
+	private void addCopies( final IItemList<T> out, final IItemList<T> stacks )
+	{
+		for( final T stack : stacks )
+		{
+			out.add( stack );
+		}
+	}
+
+	private boolean isFirstPassTarget( final IMEInventoryHandler<T> inv, final T input, final IActionSource src )
+	{
+		return inv.validForPass( 1 ) && inv.canAccept( input ) && ( inv.isPrioritized( input ) || inv.extractItems( input, Actionable.SIMULATE,
+				src ) != null );
+	}
+
 	private boolean diveList( final NetworkInventoryHandler<T> networkInventoryHandler, final Actionable type )
 	{
 		final Deque cDepth = this.getDepth( type );
@@ -195,7 +507,7 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 	}
 
 	@Override
-	public T extractItems( T request, final Actionable mode, final IActionSource src )
+	public T extractItems( final T request, final Actionable mode, final IActionSource src )
 	{
 		if( this.diveList( this, mode ) )
 		{
@@ -208,6 +520,97 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 			return null;
 		}
 
+		final T output = this.extractFromAll( request, mode, src );
+
+		this.surface( this, mode );
+
+		return output;
+	}
+
+	/**
+	 * Enters the network and checks the permission once for the whole batch.
+	 */
+	@Override
+	public IItemList<T> extractBatch( final IItemList<T> request, final Actionable mode, final IActionSource src )
+	{
+		final IItemList<T> extracted = this.myChannel.createList();
+
+		if( this.diveList( this, mode ) )
+		{
+			return extracted;
+		}
+
+		if( this.testPermission( src, SecurityPermissions.EXTRACT ) )
+		{
+			this.surface( this, mode );
+			return extracted;
+		}
+
+		this.extractFromAllBatch( request, extracted, mode, src );
+
+		this.surface( this, mode );
+
+		return extracted;
+	}
+
+	/**
+	 * Same walk as {@link #extractFromAll}, every handler is asked for the still missing part of the batch at once.
+	 */
+	private void extractFromAllBatch( final IItemList<T> request, final IItemList<T> extracted, final Actionable mode, final IActionSource src )
+	{
+		final List<T> outputs = new ArrayList<>();
+		final List<T> missing = new ArrayList<>();
+		final IItemList<T> batch = this.myChannel.createList();
+
+		for( final T stack : request )
+		{
+			final T output = stack.copy();
+			output.setStackSize( 0 );
+			outputs.add( output );
+
+			// only the amount keeps a request in the batch.
+			final T part = stack.copy();
+			part.reset();
+			part.setStackSize( stack.getStackSize() );
+			batch.add( part );
+			missing.add( batch.findPrecise( part ) );
+		}
+
+		final Iterator<List<IMEInventoryHandler<T>>> i = this.priorityInventory.descendingMap().values().iterator();
+
+		while( i.hasNext() && !batch.isEmpty() )
+		{
+			final Iterator<IMEInventoryHandler<T>> ii = i.next().iterator();
+
+			while( ii.hasNext() && !batch.isEmpty() )
+			{
+				final IItemList<T> got = ii.next().extractBatch( batch, mode, src );
+
+				for( int x = 0; x < outputs.size(); x++ )
+				{
+					final T part = got.findPrecise( outputs.get( x ) );
+
+					if( part != null )
+					{
+						outputs.get( x ).add( part );
+						// satisfied requests drop out of the batch once they reach zero.
+						missing.get( x ).decStackSize( part.getStackSize() );
+					}
+				}
+			}
+		}
+
+		for( final T output : outputs )
+		{
+			if( output.getStackSize() > 0 )
+			{
+				extracted.add( output );
+			}
+		}
+	}
+
+	private T extractFromAll( T request, final Actionable mode, final IActionSource src )
+	{
 		final Iterator<List<IMEInventoryHandler<T>>> i = this.priorityInventory.descendingMap().values().iterator();// priorityInventory.asMap().descendingMap().entrySet().iterator();
 
 		final T output = request.copy();
@@ -229,8 +632,6 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 			}
 		}
 
-		this.surface( this, mode );
-
 		if( output.getStackSize() <= 0 )
 		{
 			return null;
@@ -326,4 +727,48 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 	{
 		return true;
 	}
+
+	/**
+	 * The handlers of a single type which have to be visited during the first injection pass, grouped by priority and
+	 * kept in the same order as the priority buckets.
+	 */
+	private static class Route<T extends IAEStack<T>>
+	{
+
+		private final Map<Integer, List<IMEInventoryHandler<T>>> candidates = new HashMap<>();
+
+		List<IMEInventoryHandler<T>> get( final Integer priority )
+		{
+			return this.candidates.get( priority );
+		}
+
+		void add( final Integer priority, final List<IMEInventoryHandler<T>> bucket, final IMEInventoryHandler<T> inv )
+		{
+			final List<IMEInventoryHandler<T>> list = this.candidates.computeIfAbsent( priority, p -> new ArrayList<>( 2 ) );
+
+			if( list.contains( inv ) )
+			{
+				return;
+			}
+
+			if( list.isEmpty() || bucket.get( bucket.size() - 1 ) == inv )
+			{
+				list.add( inv );
+				return;
+			}
+
+			// keep the order of the bucket, the first pass fills handlers in this order.
+			final List<IMEInventoryHandler<T>> ordered = new ArrayList<>( list.size() + 1 );
+			for( final IMEInventoryHandler<T> h : bucket )
+			{
+				if( h == inv || list.contains( h ) )
+				{
+					ordered.add( h );
+				}
+			}
+
+			list.clear();
+			list.addAll( ordered );
+		}
+	}
 }
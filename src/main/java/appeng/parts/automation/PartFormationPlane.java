@@ -135,7 +135,7 @@ public class PartFormationPlane extends PartAbstractFormationPlane<IAEItemStack>
 
 		try
 		{
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException e )
 		{
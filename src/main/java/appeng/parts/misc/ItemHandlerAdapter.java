@@ -21,6 +21,7 @@ package appeng.parts.misc;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -77,7 +78,13 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 		// This uses a brute force approach and tries to jam it in every slot the inventory exposes.
 		for( int i = 0; i < slotCount && !remaining.isEmpty(); i++ )
 		{
+			final ItemStack before = remaining;
 			remaining = this.itemHandler.insertItem( i, remaining, simulate );
+
+			if( !simulate && remaining != before )
+			{
+				this.cache.markDirty( i );
+			}
 		}
 
 		// At this point, we still have some items left...
@@ -134,6 +141,11 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 				extracted = this.itemHandler.extractItem( i, remainingCurrentSlot, simulate );
 				if( !extracted.isEmpty() )
 				{
+					if( !simulate )
+					{
+						this.cache.markDirty( i );
+					}
+
 					if( extracted.getCount() > remainingCurrentSlot )
 					{
 						// Something broke. It should never return more than we requested...
@@ -251,10 +263,21 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 		}
 	}
 
+	/**
+	 * Finds changes of the wrapped inventory by comparing its slots with the cached stacks.
+	 *
+	 * Large inventories are scanned round-robin, at most {@link #SLOTS_PER_UPDATE} slots per update, while slots AE
+	 * inserted into or extracted from are always rescanned on the next update.
+	 */
 	private static class InventoryCache
 	{
+		private static final int SLOTS_PER_UPDATE = 512;
+
 		private IAEItemStack[] cachedAeStacks = new IAEItemStack[0];
+		private final BitSet dirtySlots = new BitSet();
 		private final IItemHandler itemHandler;
+		private int nextSlot = 0;
+		private boolean scannedAll = false;
 
 		public InventoryCache( IItemHandler itemHandler )
 		{
@@ -267,6 +290,11 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 			return out;
 		}
 
+		public void markDirty( final int slot )
+		{
+			this.dirtySlots.set( slot );
+		}
+
 		public List<IAEItemStack> update()
 		{
 			final List<IAEItemStack> changes = new ArrayList<>();
@@ -278,14 +306,24 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 				this.cachedAeStacks = Arrays.copyOf( this.cachedAeStacks, slots );
 			}
 
-			for( int slot = 0; slot < slots; slot++ )
+			for( int slot = this.dirtySlots.nextSetBit( 0 ); slot >= 0 && slot < slots; slot = this.dirtySlots.nextSetBit( slot + 1 ) )
+			{
+				this.scanSlot( slot, changes );
+			}
+			this.dirtySlots.clear();
+
+			// the first update has to see everything, afterwards the budget keeps idle inventories cheap.
+			final int budget = this.scannedAll ? Math.min( slots, SLOTS_PER_UPDATE ) : slots;
+			for( int i = 0; i < budget; i++ )
 			{
-				// Save the old stuff
-				final IAEItemStack oldAeIS = this.cachedAeStacks[slot];
-				final ItemStack newIS = this.itemHandler.getStackInSlot( slot );
+				if( this.nextSlot >= slots )
+				{
+					this.nextSlot = 0;
+				}
 
-				this.handlePossibleSlotChanges( slot, oldAeIS, newIS, changes );
+				this.scanSlot( this.nextSlot++, changes );
 			}
+			this.scannedAll = true;
 
 			// Handle cases where the number of slots actually is lower now than before
 			if( slots < this.cachedAeStacks.length )
@@ -309,6 +347,19 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
 			return changes;
 		}
 
+		private void scanSlot( final int slot, final List<IAEItemStack> changes )
+		{
+			final ItemStack newIS = this.itemHandler.getStackInSlot( slot );
+			final IAEItemStack oldAeIS = this.cachedAeStacks[slot];
+
+			if( oldAeIS == null && newIS.isEmpty() )
+			{
+				return;
+			}
+
+			this.handlePossibleSlotChanges( slot, oldAeIS, newIS, changes );
+		}
+
 		private void handlePossibleSlotChanges( int slot, IAEItemStack oldAeIS, ItemStack newIS, List<IAEItemStack> changes )
 		{
 			if( oldAeIS != null && oldAeIS.isSameType( newIS ) )
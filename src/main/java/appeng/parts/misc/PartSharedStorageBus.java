@@ -69,7 +69,7 @@ public abstract class PartSharedStorageBus extends PartUpgradeable implements IG
 			this.wasActive = currentActive;
 			try
 			{
-				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 				this.getHost().markForUpdate();
 			}
 			catch( final GridAccessException ignore )
@@ -142,7 +142,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
 			this.wasActive = currentActive;
 			try
 			{
-				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 				this.getHost().markForUpdate();
 			}
 			catch( final GridAccessException e )
@@ -346,30 +346,14 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
 		final boolean fullReset = this.resetCacheLogic == 2;
 		this.resetCacheLogic = 0;
 
-		final IMEInventory<IAEItemStack> in = this.getInternalHandler();
-		IItemList<IAEItemStack> before = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
-		if( in != null )
-		{
-			before = in.getAvailableItems( before );
-		}
-
 		this.cached = false;
 		if( fullReset )
 		{
 			this.handlerHash = 0;
 		}
 
-		final IMEInventory<IAEItemStack> out = this.getInternalHandler();
-
-		if( in != out )
-		{
-			IItemList<IAEItemStack> after = AEApi.instance().storage().getStorageChannel( IItemStorageChannel.class ).createList();
-			if( out != null )
-			{
-				after = out.getAvailableItems( after );
-			}
-			Platform.postListChanges( before, after, this, this.mySrc );
-		}
+		// a new handler posts a cell array update, the grid posts the difference of the contents.
+		this.getInternalHandler();
 	}
 
 	private IMEInventory<IAEItemStack> getInventoryWrapper( TileEntity target )
@@ -532,7 +516,7 @@ public class PartStorageBus extends PartUpgradeable implements IGridTickable, IC
 		try
 		{
 			// force grid to update handlers...
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException e )
 		{
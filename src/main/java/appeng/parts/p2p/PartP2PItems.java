@@ -20,8 +20,13 @@ package appeng.parts.p2p;
 
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -30,6 +35,7 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 import net.minecraftforge.items.wrapper.EmptyHandler;
 
 import appeng.api.networking.IGridNode;
@@ -41,6 +47,8 @@ import appeng.api.networking.ticking.IGridTickable;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.networking.ticking.TickingRequest;
 import appeng.api.parts.IPartModel;
+import appeng.core.AEConfig;
+import appeng.core.settings.ItemTunnelRouting;
 import appeng.core.settings.TickRates;
 import appeng.items.parts.PartModels;
 import appeng.me.GridAccessException;
@@ -53,6 +61,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 {
 	private static final float POWER_DRAIN = 2.0f;
 	private static final P2PModels MODELS = new P2PModels( "part/p2p/p2p_tunnel_items" );
+	private static final Comparator<PartP2PItems> FILL_SORTER = Comparator.comparingDouble( PartP2PItems::getFillRatio );
 	private boolean partVisited = false;
 
 	@PartModels
@@ -65,6 +74,17 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	private boolean requested;
 	private IItemHandler cachedInv;
 
+	// routed insertion, see ItemTunnelRouting
+	private List<PartP2PItems> routedOutputs;
+	private final Map<Item, PartP2PItems> lastOutputs = new HashMap<>();
+	private int nextOutput;
+
+	// sampled contents of the output inventory, only used for LEAST_FILLED
+	private long storedItems;
+	private long capacity;
+
+	private long transferredItems;
+
 	public PartP2PItems( final ItemStack is )
 	{
 		super( is );
@@ -73,7 +93,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	@Override
 	public void onNeighborChanged( IBlockAccess w, BlockPos pos, BlockPos neighbor )
 	{
-		this.cachedInv = null;
+		this.invalidateDestination();
 		final PartP2PItems input = this.getInput();
 		if( input != null && this.isOutput() )
 		{
@@ -121,6 +141,129 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 		return this.cachedInv = new WrapperChainedItemHandler( outs.toArray( new IItemHandler[outs.size()] ) );
 	}
 
+	private void invalidateDestination()
+	{
+		this.cachedInv = null;
+		this.routedOutputs = null;
+		this.lastOutputs.clear();
+	}
+
+	private List<PartP2PItems> getRoutedOutputs()
+	{
+		this.requested = true;
+
+		if( this.routedOutputs != null )
+		{
+			return this.routedOutputs;
+		}
+
+		final List<PartP2PItems> outs = new ArrayList<>();
+
+		try
+		{
+			for( final PartP2PItems t : this.getOutputs() )
+			{
+				if( t != this )
+				{
+					t.sampleFill();
+					outs.add( t );
+				}
+			}
+		}
+		catch( final GridAccessException e )
+		{
+			return Collections.emptyList();
+		}
+
+		this.nextOutput = 0;
+		return this.routedOutputs = outs;
+	}
+
+	/**
+	 * Inserts into whole output inventories instead of single slots of the chained inventory, the slot is ignored.
+	 */
+	private ItemStack insertRouted( final ItemStack stack, final boolean simulate, final ItemTunnelRouting routing )
+	{
+		final List<PartP2PItems> outs = this.getRoutedOutputs();
+
+		if( stack.isEmpty() || outs.isEmpty() )
+		{
+			return stack;
+		}
+
+		final int first;
+		if( routing == ItemTunnelRouting.LEAST_FILLED )
+		{
+			outs.sort( FILL_SORTER );
+			first = 0;
+		}
+		else
+		{
+			final int last = outs.indexOf( this.lastOutputs.get( stack.getItem() ) );
+			first = last >= 0 ? last + 1 : this.nextOutput;
+		}
+
+		ItemStack remaining = stack;
+
+		for( int x = 0; x < outs.size() && !remaining.isEmpty(); x++ )
+		{
+			final int index = ( first + x ) % outs.size();
+			final PartP2PItems out = outs.get( index );
+			final IItemHandler inv = out.getOutputInv();
+
+			if( inv == null || inv == this )
+			{
+				continue;
+			}
+
+			final ItemStack left = ItemHandlerHelper.insertItem( inv, remaining, simulate );
+			final int inserted = remaining.getCount() - left.getCount();
+
+			if( inserted > 0 && !simulate )
+			{
+				out.storedItems += inserted;
+				out.transferredItems += inserted;
+				this.transferredItems += inserted;
+				this.lastOutputs.put( stack.getItem(), out );
+				this.nextOutput = ( index + 1 ) % outs.size();
+			}
+
+			remaining = left;
+		}
+
+		return remaining;
+	}
+
+	private void sampleFill()
+	{
+		this.storedItems = 0;
+		this.capacity = 0;
+
+		final IItemHandler inv = this.getOutputInv();
+		if( inv != null )
+		{
+			for( int x = 0; x < inv.getSlots(); x++ )
+			{
+				final ItemStack is = inv.getStackInSlot( x );
+				this.storedItems += is.getCount();
+				this.capacity += is.isEmpty() ? inv.getSlotLimit( x ) : Math.min( inv.getSlotLimit( x ), is.getMaxStackSize() );
+			}
+		}
+	}
+
+	private double getFillRatio()
+	{
+		return this.capacity > 0 ? (double) this.storedItems / this.capacity : 1.0;
+	}
+
+	/**
+	 * @return items sent by an input or received by an output through routed insertion
+	 */
+	public long getTransferredItems()
+	{
+		return this.transferredItems;
+	}
+
 	private IItemHandler getOutputInv()
 	{
 		IItemHandler ret = null;
@@ -158,6 +301,11 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 			( (WrapperChainedItemHandler) this.cachedInv ).cycleOrder();
 		}
 
+		if( this.requested && this.routedOutputs != null && AEConfig.instance().getItemTunnelRouting() == ItemTunnelRouting.LEAST_FILLED )
+		{
+			this.routedOutputs.forEach( PartP2PItems::sampleFill );
+		}
+
 		this.requested = false;
 		return wasReq ? TickRateModulation.FASTER : TickRateModulation.SLOWER;
 	}
@@ -167,7 +315,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	{
 		if( !this.isOutput() )
 		{
-			this.cachedInv = null;
+			this.invalidateDestination();
 			final int olderSize = this.oldSize;
 			this.oldSize = this.getDestination().getSlots();
 			if( olderSize != this.oldSize )
@@ -182,7 +330,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	{
 		if( !this.isOutput() )
 		{
-			this.cachedInv = null;
+			this.invalidateDestination();
 			final int olderSize = this.oldSize;
 			this.oldSize = this.getDestination().getSlots();
 			if( olderSize != this.oldSize )
@@ -197,7 +345,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	{
 		if( !this.isOutput() )
 		{
-			this.cachedInv = null;
+			this.invalidateDestination();
 			final int olderSize = this.oldSize;
 			this.oldSize = this.getDestination().getSlots();
 			if( olderSize != this.oldSize )
@@ -212,7 +360,7 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	{
 		if( !this.isOutput() )
 		{
-			this.cachedInv = null;
+			this.invalidateDestination();
 			final int olderSize = this.oldSize;
 			this.oldSize = this.getDestination().getSlots();
 			if( olderSize != this.oldSize )
@@ -268,6 +416,14 @@ public class PartP2PItems extends PartP2PTunnel<PartP2PItems> implements IItemHa
 	@Override
 	public ItemStack insertItem( final int slot, final ItemStack stack, boolean simulate )
 	{
+		final ItemTunnelRouting routing = AEConfig.instance().getItemTunnelRouting();
+
+		if( routing != ItemTunnelRouting.CHAINED && !this.isOutput() )
+		{
+			// routing already tries every output, callers looping over the slots only need to do that once.
+			return slot == 0 ? this.insertRouted( stack, simulate, routing ) : stack;
+		}
+
 		return this.getDestination().insertItem( slot, stack, simulate );
 	}
 
@@ -99,7 +99,7 @@ public final class AECommand extends CommandBase
 					throw new WrongUsageException( "commands.ae2.permissions" );
 				}
 			}
-			catch( final WrongUsageException wrong )
+			catch( final CommandException wrong )
 			{
 				throw wrong;
 			}
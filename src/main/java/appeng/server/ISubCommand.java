@@ -19,6 +19,7 @@
 package appeng.server;
 
 
+import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.server.MinecraftServer;
 
@@ -28,5 +29,5 @@ public interface ISubCommand
 
 	String getHelp( MinecraftServer srv );
 
-	void call( MinecraftServer srv, String[] args, ICommandSender sender );
+	void call( MinecraftServer srv, String[] args, ICommandSender sender ) throws CommandException;
 }
@@ -0,0 +1,172 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.ticking.ITickManager;
+import appeng.api.util.DimensionalCoord;
+import appeng.crafting.CraftingJobScheduler;
+import appeng.hooks.TickHandler;
+import appeng.me.Grid;
+import appeng.me.GridCacheWrapper;
+import appeng.me.cache.TickManagerCache;
+import appeng.me.cache.helpers.TickStatistics;
+import appeng.me.cache.helpers.TickTracker;
+import appeng.server.ISubCommand;
+import appeng.util.item.AEItemStackRegistry;
+
+
+/**
+ * Lists the devices, machine types, grid caches and grids which spent the most time ticking recently, followed by the
+ * statistics of the crafting calculations and the item stack registry.
+ *
+ * All times are averages over the last {@link TickStatistics#WINDOW} ticks of each device or cache.
+ */
+public class Profiler implements ISubCommand
+{
+
+	private static final int DEFAULT_ENTRIES = 10;
+
+	@Override
+	public String getHelp( final MinecraftServer srv )
+	{
+		return "commands.ae2.Profile";
+	}
+
+	@Override
+	public void call( final MinecraftServer srv, final String[] data, final ICommandSender sender ) throws CommandException
+	{
+		final int entries = data.length > 1 ? CommandBase.parseInt( data[1], 1 ) : DEFAULT_ENTRIES;
+
+		final List<TickTracker> devices = new ArrayList<>();
+		final Map<Class<?>, Entry> machines = new HashMap<>();
+		final Map<String, Entry> caches = new HashMap<>();
+		final List<Entry> grids = new ArrayList<>();
+
+		for( final Grid grid : TickHandler.INSTANCE.getGridList() )
+		{
+			final IGridNode pivot = grid.getPivot();
+
+			if( pivot == null )
+			{
+				continue;
+			}
+
+			final Entry gridEntry = new Entry( "Grid at " + describe( pivot ) );
+
+			for( final TickTracker tt : ( (TickManagerCache) grid.getCache( ITickManager.class ) ).getTickTrackers() )
+			{
+				final long avg = tt.getAvgNanos();
+
+				devices.add( tt );
+				machines.computeIfAbsent( tt.getNode().getMachine().getClass(), c -> new Entry( c.getSimpleName() ) ).add( avg );
+			}
+
+			// the tick manager's cache time already contains its device ticks.
+			for( final GridCacheWrapper cache : grid.getCacheWrappers() )
+			{
+				final long avg = cache.getStatistics().getAverage();
+
+				caches.computeIfAbsent( cache.getName(), Entry::new ).add( avg );
+				gridEntry.add( avg );
+			}
+
+			grids.add( gridEntry );
+		}
+
+		devices.sort( Comparator.comparingLong( TickTracker::getAvgNanos ).reversed() );
+
+		sender.sendMessage( new TextComponentString( "Slowest devices (" + devices.size() + " ticking):" ) );
+		for( final TickTracker tt : devices.subList( 0, Math.min( entries, devices.size() ) ) )
+		{
+			final TickStatistics stats = tt.getStatistics();
+			final String name = tt.getNode().getMachine().getClass().getSimpleName();
+			final String times = "avg " + time( stats.getAverage() ) + ", p95 " + time( stats.getPercentile( 0.95 ) ) + ", max " + time( stats.getMax() );
+
+			sender.sendMessage( new TextComponentString( " " + name + " - " + times + " at " + describe( tt.getNode() ) ) );
+		}
+
+		this.sendTop( sender, "Slowest machine types:", new ArrayList<>( machines.values() ), entries );
+		this.sendTop( sender, "Slowest grid caches:", new ArrayList<>( caches.values() ), entries );
+		this.sendTop( sender, "Slowest grids:", grids, entries );
+
+		final long hits = AEItemStackRegistry.getHits();
+		final long lookups = hits + AEItemStackRegistry.getMisses();
+		final String hitRate = lookups > 0 ? String.format( "%.1f%%", 100.0 * hits / lookups ) : "-";
+		final CraftingJobScheduler scheduler = CraftingJobScheduler.instance();
+		sender.sendMessage( new TextComponentString( "Crafting calculations: " + scheduler.getRunningJobs() + " running, " + scheduler
+				.getQueueDepth() + " queued, " + scheduler.getAverageWallTime() + "ms average" ) );
+
+		sender.sendMessage( new TextComponentString( "Item stack registry: " + AEItemStackRegistry.size() + " stacks, " + hitRate + " of " + lookups + " lookups hit" ) );
+	}
+
+	private void sendTop( final ICommandSender sender, final String title, final List<Entry> entries, final int count )
+	{
+		entries.sort( Comparator.comparingLong( ( Entry e ) -> e.nanos ).reversed() );
+
+		sender.sendMessage( new TextComponentString( title ) );
+		for( final Entry e : entries.subList( 0, Math.min( count, entries.size() ) ) )
+		{
+			sender.sendMessage( new TextComponentString( " " + e.name + " - " + time( e.nanos ) + " in " + e.count ) );
+		}
+	}
+
+	private static String describe( final IGridNode node )
+	{
+		final DimensionalCoord coord = node.getGridBlock().getLocation();
+		return coord == null ? "unknown location" : coord.toString();
+	}
+
+	private static String time( final long nanos )
+	{
+		return String.format( "%.3fms", nanos / 1000000.0 );
+	}
+
+	private static class Entry
+	{
+
+		private final String name;
+		private long nanos = 0;
+		private int count = 0;
+
+		private Entry( final String name )
+		{
+			this.name = name;
+		}
+
+		private void add( final long nanos )
+		{
+			this.nanos += nanos;
+			this.count++;
+		}
+	}
+}
@@ -20,7 +20,9 @@ package appeng.services;
 
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
@@ -52,6 +54,7 @@ public final class CompassService
 
 	private final Map<World, CompassReader> worldSet = new HashMap<>( 10 );
 	private final ExecutorService executor;
+	private final Map<RequestKey, CMDirectionRequest> pendingRequests = new HashMap<>();
 
 	/**
 	 * AE2 Folder for each world
@@ -71,8 +74,27 @@ public final class CompassService
 
 	public Future<?> getCompassDirection( final DimensionalCoord coord, final int maxRange, final ICompassCallback cc )
 	{
-		this.jobSize++;
-		return this.executor.submit( new CMDirectionRequest( coord, maxRange, cc ) );
+		final RequestKey key = new RequestKey( coord.getWorld(), coord.x >> 4, coord.z >> 4, maxRange );
+
+		synchronized( this.pendingRequests )
+		{
+			final CMDirectionRequest pending = this.pendingRequests.get( key );
+
+			if( pending != null )
+			{
+				pending.callbacks.add( cc );
+				return pending.future;
+			}
+
+			final CMDirectionRequest request = new CMDirectionRequest( key, coord, maxRange );
+			request.callbacks.add( cc );
+
+			this.jobSize++;
+			request.future = this.executor.submit( request );
+			this.pendingRequests.put( key, request );
+
+			return request.future;
+		}
 	}
 
 	/**
@@ -247,13 +269,19 @@ public final class CompassService
 
 		public final int maxRange;
 		public final DimensionalCoord coord;
-		public final ICompassCallback callback;
+		public final List<ICompassCallback> callbacks = new ArrayList<>();
+		private final RequestKey key;
+		private Future<?> future;
 
-		public CMDirectionRequest( final DimensionalCoord coord, final int getMaxRange, final ICompassCallback cc )
+		private int closest;
+		private int chosenX;
+		private int chosenZ;
+
+		public CMDirectionRequest( final RequestKey key, final DimensionalCoord coord, final int getMaxRange )
 		{
+			this.key = key;
 			this.coord = coord;
 			this.maxRange = getMaxRange;
-			this.callback = cc;
 		}
 
 		@Override
@@ -261,6 +289,14 @@ public final class CompassService
 		{
 			CompassService.this.jobSize--;
 
+			// later requests for the same chunk have to start a new search.
+			final List<ICompassCallback> waiting;
+			synchronized( CompassService.this.pendingRequests )
+			{
+				CompassService.this.pendingRequests.remove( this.key );
+				waiting = new ArrayList<>( this.callbacks );
+			}
+
 			final int cx = this.coord.x >> 4;
 			final int cz = this.coord.z >> 4;
 
@@ -269,13 +305,7 @@ public final class CompassService
 			// Am I standing on it?
 			if( cr.hasBeacon( cx, cz ) )
 			{
-				this.callback.calculatedDirection( true, true, -999, 0 );
-
-				if( CompassService.this.jobSize() < 2 )
-				{
-					CompassService.this.cleanUp();
-				}
-
+				this.finish( waiting, true, true, -999, 0 );
 				return;
 			}
 
@@ -287,76 +317,71 @@ public final class CompassService
 				final int maxX = cx + offset;
 				final int maxZ = cz + offset;
 
-				int closest = Integer.MAX_VALUE;
-				int chosen_x = cx;
-				int chosen_z = cz;
+				this.closest = Integer.MAX_VALUE;
+				this.chosenX = cx;
+				this.chosenZ = cz;
 
-				for( int z = minZ; z <= maxZ; z++ )
-				{
-					if( cr.hasBeacon( minX, z ) )
-					{
-						final int closeness = CompassService.this.dist( cx, cz, minX, z );
-						if( closeness < closest )
-						{
-							closest = closeness;
-							chosen_x = minX;
-							chosen_z = z;
-						}
-					}
+				this.scan( cr, cx, cz, minX, minZ, maxZ, true );
+				this.scan( cr, cx, cz, maxX, minZ, maxZ, true );
+				this.scan( cr, cx, cz, minZ, minX + 1, maxX - 1, false );
+				this.scan( cr, cx, cz, maxZ, minX + 1, maxX - 1, false );
 
-					if( cr.hasBeacon( maxX, z ) )
-					{
-						final int closeness = CompassService.this.dist( cx, cz, maxX, z );
-						if( closeness < closest )
-						{
-							closest = closeness;
-							chosen_x = maxX;
-							chosen_z = z;
-						}
-					}
+				if( this.closest < Integer.MAX_VALUE )
+				{
+					this.finish( waiting, true, false, CompassService.this.rad( cx, cz, this.chosenX, this.chosenZ ),
+							CompassService.this.dist( cx, cz, this.chosenX, this.chosenZ ) );
+					return;
 				}
+			}
 
-				for( int x = minX + 1; x < maxX; x++ )
-				{
-					if( cr.hasBeacon( x, minZ ) )
-					{
-						final int closeness = CompassService.this.dist( cx, cz, x, minZ );
-						if( closeness < closest )
-						{
-							closest = closeness;
-							chosen_x = x;
-							chosen_z = minZ;
-						}
-					}
+			// didn't find shit...
+			this.finish( waiting, false, true, -999, 999 );
+		}
 
-					if( cr.hasBeacon( x, maxZ ) )
-					{
-						final int closeness = CompassService.this.dist( cx, cz, x, maxZ );
-						if( closeness < closest )
-						{
-							closest = closeness;
-							chosen_x = x;
-							chosen_z = maxZ;
-						}
-					}
-				}
+		/**
+		 * Looks for the closest beacon on one side of the square, skipping the parts the summaries know to be empty.
+		 *
+		 * @param fixed the x of a column, or the z of a row
+		 * @param from first z of a column, or x of a row
+		 * @param to last z of a column, or x of a row
+		 */
+		private void scan( final CompassReader cr, final int cx, final int cz, final int fixed, final int from, final int to, final boolean alongZ )
+		{
+			int i = from;
+
+			while( i <= to )
+			{
+				final int x = alongZ ? fixed : i;
+				final int z = alongZ ? i : fixed;
 
-				if( closest < Integer.MAX_VALUE )
+				final int empty = cr.getEmptyRun( x, z, alongZ );
+				if( empty > 0 )
 				{
-					this.callback.calculatedDirection( true, false, CompassService.this.rad( cx, cz, chosen_x, chosen_z ),
-							CompassService.this.dist( cx, cz, chosen_x, chosen_z ) );
+					i += empty;
+					continue;
+				}
 
-					if( CompassService.this.jobSize() < 2 )
+				if( cr.hasBeacon( x, z ) )
+				{
+					final int closeness = CompassService.this.dist( cx, cz, x, z );
+					if( closeness < this.closest )
 					{
-						CompassService.this.cleanUp();
+						this.closest = closeness;
+						this.chosenX = x;
+						this.chosenZ = z;
 					}
-
-					return;
 				}
+
+				i++;
 			}
+		}
 
-			// didn't find shit...
-			this.callback.calculatedDirection( false, true, -999, 999 );
+		private void finish( final List<ICompassCallback> waiting, final boolean hasResult, final boolean spin, final double radians, final double dist )
+		{
+			for( final ICompassCallback callback : waiting )
+			{
+				callback.calculatedDirection( hasResult, spin, radians, dist );
+			}
 
 			if( CompassService.this.jobSize() < 2 )
 			{
@@ -364,4 +389,50 @@ public final class CompassService
 			}
 		}
 	}
+
+	/**
+	 * Requests for the same chunk and range are answered by a single search.
+	 */
+	private static final class RequestKey
+	{
+
+		private final World world;
+		private final int chunkX;
+		private final int chunkZ;
+		private final int maxRange;
+
+		private RequestKey( final World world, final int chunkX, final int chunkZ, final int maxRange )
+		{
+			this.world = world;
+			this.chunkX = chunkX;
+			this.chunkZ = chunkZ;
+			this.maxRange = maxRange;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			int result = System.identityHashCode( this.world );
+			result = 31 * result + this.chunkX;
+			result = 31 * result + this.chunkZ;
+			return 31 * result + this.maxRange;
+		}
+
+		@Override
+		public boolean equals( final Object obj )
+		{
+			if( this == obj )
+			{
+				return true;
+			}
+			if( obj == null || this.getClass() != obj.getClass() )
+			{
+				return false;
+			}
+
+			final RequestKey other = (RequestKey) obj;
+
+			return this.world == other.world && this.chunkX == other.chunkX && this.chunkZ == other.chunkZ && this.maxRange == other.maxRange;
+		}
+	}
 }
@@ -31,6 +31,8 @@ import com.google.common.base.Preconditions;
 public final class CompassReader
 {
 	private final Map<Long, CompassRegion> regions = new HashMap<>( 100 );
+	// summaries are small and expensive to build, so unlike the regions they are kept when the reader is closed.
+	private final Map<Long, CompassSummary> summaries = new HashMap<>( 100 );
 	private final int dimensionId;
 	private final File worldCompassFolder;
 
@@ -58,6 +60,19 @@ public final class CompassReader
 		final CompassRegion r = this.getRegion( cx, cz );
 
 		r.setHasBeacon( cx, cz, cdy, hasBeacon );
+
+		final CompassSummary summary = this.summaries.get( regionKey( cx, cz ) );
+		if( summary != null )
+		{
+			if( hasBeacon )
+			{
+				summary.add( cx, cz );
+			}
+			else if( !r.hasBeacon( cx, cz ) )
+			{
+				summary.refresh( r, cx, cz );
+			}
+		}
 	}
 
 	public boolean hasBeacon( final int cx, final int cz )
@@ -67,11 +82,60 @@ public final class CompassReader
 		return r.hasBeacon( cx, cz );
 	}
 
-	private CompassRegion getRegion( final int cx, final int cz )
+	/**
+	 * @return how many chunks, starting at the given one and walking towards positive x (or z), are known to have no
+	 * beacon. 0 if the chunk itself might have one.
+	 */
+	public int getEmptyRun( final int cx, final int cz, final boolean alongZ )
+	{
+		final CompassSummary summary = this.getSummary( cx, cz );
+		final int pos = alongZ ? cz : cx;
+
+		if( summary.isEmpty() )
+		{
+			return 0x400 - ( pos & 0x3FF );
+		}
+
+		if( summary.isAreaEmpty( cx, cz ) )
+		{
+			return 0x100 - ( pos & 0xFF );
+		}
+
+		if( summary.isBlockEmpty( cx, cz ) )
+		{
+			return 0x10 - ( pos & 0xF );
+		}
+
+		return 0;
+	}
+
+	private CompassSummary getSummary( final int cx, final int cz )
+	{
+		final long pos = regionKey( cx, cz );
+
+		CompassSummary summary = this.summaries.get( pos );
+
+		if( summary == null )
+		{
+			summary = new CompassSummary();
+			this.getRegion( cx, cz ).summarize( summary );
+			this.summaries.put( pos, summary );
+		}
+
+		return summary;
+	}
+
+	private static long regionKey( final int cx, final int cz )
 	{
 		long pos = cx >> 10;
 		pos <<= 32;
-		pos |= ( cz >> 10 );
+		pos |= ( cz >> 10 ) & 0xFFFFFFFFL;
+		return pos;
+	}
+
+	private CompassRegion getRegion( final int cx, final int cz )
+	{
+		final long pos = regionKey( cx, cz );
 
 		CompassRegion cr = this.regions.get( pos );
 
@@ -96,6 +96,28 @@ public final class CompassRegion
 		return false;
 	}
 
+	/**
+	 * Adds every chunk with a beacon to the summary.
+	 */
+	void summarize( final CompassSummary summary )
+	{
+		if( !this.hasFile )
+		{
+			return;
+		}
+
+		for( int cz = 0; cz < 0x400; cz++ )
+		{
+			for( int cx = 0; cx < 0x400; cx++ )
+			{
+				if( this.read( cx, cz ) != 0 )
+				{
+					summary.add( cx, cz );
+				}
+			}
+		}
+	}
+
 	void setHasBeacon( int cx, int cz, final int cdy, final boolean hasBeacon )
 	{
 		cx &= 0x3FF;
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2015, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.services.compass;
+
+
+/**
+ * Which parts of a compass region contain beacons at all, so searches can skip empty areas.
+ *
+ * A region covers 1024x1024 chunks. It is summarized by one bit per 16x16 chunk block and one bit per 256x256 chunk
+ * area.
+ */
+final class CompassSummary
+{
+	private static final int BLOCKS_PER_SIDE = 64;
+	private static final int AREAS_PER_SIDE = 4;
+
+	// row z of the blocks is a long, with bit x set when block x, z has a beacon.
+	private final long[] blocks = new long[BLOCKS_PER_SIDE];
+	private int areas = 0;
+
+	boolean isEmpty()
+	{
+		return this.areas == 0;
+	}
+
+	boolean isAreaEmpty( final int cx, final int cz )
+	{
+		return ( this.areas & ( 1 << areaBit( cx, cz ) ) ) == 0;
+	}
+
+	boolean isBlockEmpty( final int cx, final int cz )
+	{
+		return ( this.blocks[( cz & 0x3FF ) >> 4] & ( 1L << ( ( cx & 0x3FF ) >> 4 ) ) ) == 0;
+	}
+
+	void add( final int cx, final int cz )
+	{
+		this.blocks[( cz & 0x3FF ) >> 4] |= 1L << ( ( cx & 0x3FF ) >> 4 );
+		this.areas |= 1 << areaBit( cx, cz );
+	}
+
+	/**
+	 * Recomputes the block and area of a chunk after a beacon was removed from it.
+	 */
+	void refresh( final CompassRegion region, final int cx, final int cz )
+	{
+		final int lowX = cx & ~0xF;
+		final int lowZ = cz & ~0xF;
+		boolean found = false;
+
+		for( int z = lowZ; z < lowZ + 16 && !found; z++ )
+		{
+			for( int x = lowX; x < lowX + 16 && !found; x++ )
+			{
+				found = region.hasBeacon( x, z );
+			}
+		}
+
+		if( found )
+		{
+			return;
+		}
+
+		this.blocks[( cz & 0x3FF ) >> 4] &= ~( 1L << ( ( cx & 0x3FF ) >> 4 ) );
+
+		// an area is 16x16 blocks, so a quarter of the bits of 16 rows.
+		final int shift = ( ( cx & 0x3FF ) >> 8 ) * 16;
+		final int firstRow = ( ( cz & 0x3FF ) >> 8 ) * 16;
+		long used = 0;
+
+		for( int row = firstRow; row < firstRow + 16; row++ )
+		{
+			used |= ( this.blocks[row] >>> shift ) & 0xFFFF;
+		}
+
+		if( used == 0 )
+		{
+			this.areas &= ~( 1 << areaBit( cx, cz ) );
+		}
+	}
+
+	private static int areaBit( final int cx, final int cz )
+	{
+		return ( ( cz & 0x3FF ) >> 8 ) * AREAS_PER_SIDE + ( ( cx & 0x3FF ) >> 8 );
+	}
+}
@@ -46,6 +46,7 @@ import appeng.api.definitions.IComparableDefinition;
 import appeng.api.definitions.ITileDefinition;
 import appeng.api.features.IInscriberRecipe;
 import appeng.api.features.IInscriberRecipeBuilder;
+import appeng.api.features.IInscriberRegistry;
 import appeng.api.features.InscriberProcessType;
 import appeng.api.implementations.IUpgradeableHost;
 import appeng.api.networking.IGridNode;
@@ -99,6 +100,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
 	private final IItemHandler sideItemHandlerExtern;
 
 	private IInscriberRecipe cachedTask = null;
+	private IInscriberRecipe lastRecipe = null;
 
 	private final IItemHandlerModifiable inv = new WrapperChainedItemHandler( this.topItemHandler, this.bottomItemHandler, this.sideItemHandler );
 
@@ -324,36 +326,54 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
 			return this.makeNamePressRecipe( input, plateB, plateA );
 		}
 
-		for( final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes() )
+		final IInscriberRegistry registry = AEApi.instance().registries().inscriber();
+
+		// Usually the same recipe is processed over and over again
+		if( this.lastRecipe != null && registry.getRecipes().contains( this.lastRecipe ) && this.matches( this.lastRecipe, input, plateA, plateB ) )
 		{
+			return this.lastRecipe;
+		}
 
-			final boolean matchA = ( plateA.isEmpty() && !recipe.getTopOptional().isPresent() ) || ( Platform.itemComparisons()
-					.isSameItem( plateA,
-							recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) ) && // and...
-					( ( plateB.isEmpty() && !recipe.getBottomOptional().isPresent() ) || ( Platform.itemComparisons()
-							.isSameItem( plateB,
-									recipe.getBottomOptional().orElse( ItemStack.EMPTY ) ) ) );
+		for( final IInscriberRecipe recipe : registry.getRecipesForInput( input ) )
+		{
+			if( this.matches( recipe, input, plateA, plateB ) )
+			{
+				this.lastRecipe = recipe;
+				return recipe;
+			}
+		}
 
-			final boolean matchB = ( plateB.isEmpty() && !recipe.getTopOptional().isPresent() ) || ( Platform.itemComparisons()
-					.isSameItem( plateB,
-							recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) ) && // and...
-					( ( plateA.isEmpty() && !recipe.getBottomOptional().isPresent() ) || ( Platform.itemComparisons()
-							.isSameItem( plateA,
-									recipe.getBottomOptional().orElse( ItemStack.EMPTY ) ) ) );
+		return null;
+	}
 
-			if( matchA || matchB )
+	private boolean matches( final IInscriberRecipe recipe, final ItemStack input, final ItemStack plateA, final ItemStack plateB )
+	{
+		final boolean matchA = ( plateA.isEmpty() && !recipe.getTopOptional().isPresent() ) || ( Platform.itemComparisons()
+				.isSameItem( plateA,
+						recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) ) && // and...
+				( ( plateB.isEmpty() && !recipe.getBottomOptional().isPresent() ) || ( Platform.itemComparisons()
+						.isSameItem( plateB,
+								recipe.getBottomOptional().orElse( ItemStack.EMPTY ) ) ) );
+
+		final boolean matchB = ( plateB.isEmpty() && !recipe.getTopOptional().isPresent() ) || ( Platform.itemComparisons()
+				.isSameItem( plateB,
+						recipe.getTopOptional().orElse( ItemStack.EMPTY ) ) ) && // and...
+				( ( plateA.isEmpty() && !recipe.getBottomOptional().isPresent() ) || ( Platform.itemComparisons()
+						.isSameItem( plateA,
+								recipe.getBottomOptional().orElse( ItemStack.EMPTY ) ) ) );
+
+		if( matchA || matchB )
+		{
+			for( final ItemStack option : recipe.getInputs() )
 			{
-				for( final ItemStack option : recipe.getInputs() )
+				if( Platform.itemComparisons().isSameItem( input, option ) )
 				{
-					if( Platform.itemComparisons().isSameItem( input, option ) )
-					{
-						return recipe;
-					}
+					return true;
 				}
 			}
 		}
 
-		return null;
+		return false;
 	}
 
 	@Override
@@ -621,14 +641,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
 				{
 					return true;
 				}
-				for( final ItemStack optionals : AEApi.instance().registries().inscriber().getOptionals() )
-				{
-					if( Platform.itemComparisons().isSameItem( stack, optionals ) )
-					{
-						return true;
-					}
-				}
-				return false;
+				return AEApi.instance().registries().inscriber().isOptional( stack );
 			}
 			return true;
 		}
@@ -67,7 +67,6 @@ import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.networking.security.ISecurityGrid;
 import appeng.api.networking.storage.IBaseMonitor;
-import appeng.api.networking.storage.IStorageGrid;
 import appeng.api.storage.ICellGuiHandler;
 import appeng.api.storage.ICellHandler;
 import appeng.api.storage.ICellInventory;
@@ -188,7 +187,7 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
 			this.wasActive = currentActive;
 			try
 			{
-				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 			}
 			catch( final GridAccessException e )
 			{
@@ -493,9 +492,8 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
 
 			try
 			{
-				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
-				final IStorageGrid gs = this.getProxy().getStorage();
-				Platform.postChanges( gs, removed, added, this.mySrc );
+				// the storage cache posts the difference of the old and new cell itself.
+				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 			}
 			catch( final GridAccessException ignored )
 			{
@@ -581,7 +579,7 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
 
 		try
 		{
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException e )
 		{
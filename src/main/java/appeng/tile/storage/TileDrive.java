@@ -40,8 +40,6 @@ import appeng.api.networking.events.MENetworkCellArrayUpdate;
 import appeng.api.networking.events.MENetworkChannelsChanged;
 import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.api.networking.events.MENetworkPowerStatusChange;
-import appeng.api.networking.security.IActionSource;
-import appeng.api.networking.storage.IStorageGrid;
 import appeng.api.storage.ICellHandler;
 import appeng.api.storage.ICellInventory;
 import appeng.api.storage.ICellInventoryHandler;
@@ -55,7 +53,6 @@ import appeng.api.util.DimensionalCoord;
 import appeng.core.sync.GuiBridge;
 import appeng.helpers.IPriorityHost;
 import appeng.me.GridAccessException;
-import appeng.me.helpers.MachineSource;
 import appeng.me.storage.DriveWatcher;
 import appeng.tile.grid.AENetworkInvTile;
 import appeng.tile.inventory.AppEngCellInventory;
@@ -74,7 +71,6 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
 	private final AppEngCellInventory inv = new AppEngCellInventory( this, 10 );
 	private final ICellHandler[] handlersBySlot = new ICellHandler[10];
 	private final DriveWatcher<IAEItemStack>[] invBySlot = new DriveWatcher[10];
-	private final IActionSource mySrc;
 	private boolean isCached = false;
 	private Map<IStorageChannel<? extends IAEStack<?>>, List<IMEInventoryHandler>> inventoryHandlers;
 	private int priority = 0;
@@ -97,7 +93,6 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
 
 	public TileDrive()
 	{
-		this.mySrc = new MachineSource( this );
 		this.getProxy().setFlags( GridFlags.REQUIRE_CHANNEL );
 		this.inv.setFilter( new CellValidInventoryFilter() );
 		this.inventoryHandlers = new IdentityHashMap<>();
@@ -208,7 +203,7 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
 			this.wasActive = currentActive;
 			try
 			{
-				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+				this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 			}
 			catch( final GridAccessException e )
 			{
@@ -263,10 +258,8 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
 
 		try
 		{
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
-
-			final IStorageGrid gs = this.getProxy().getStorage();
-			Platform.postChanges( gs, removed, added, this.mySrc );
+			// the storage cache posts the difference of the old and new cells itself.
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException ignored )
 		{
@@ -360,7 +353,7 @@ public class TileDrive extends AENetworkInvTile implements IChestOrDrive, IPrior
 
 		try
 		{
-			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate() );
+			this.getProxy().getGrid().postEvent( new MENetworkCellArrayUpdate( this ) );
 		}
 		catch( final GridAccessException e )
 		{
@@ -122,6 +122,7 @@ import appeng.integration.Integrations;
 import appeng.me.GridAccessException;
 import appeng.me.GridNode;
 import appeng.me.helpers.AENetworkProxy;
+import appeng.me.helpers.ChannelPowerSrc;
 import appeng.util.helpers.ItemComparisonHelper;
 import appeng.util.helpers.P2PHelper;
 import appeng.util.item.AEItemStack;
@@ -1178,6 +1179,18 @@ public class Platform
 		Preconditions.checkNotNull( src );
 		Preconditions.checkNotNull( mode );
 
+		final IEnergyGrid grid = mode == Actionable.MODULATE ? getReservableGrid( energy ) : null;
+		if( grid != null )
+		{
+			final double energyFactor = Math.max( 1.0, cell.getChannel().transferFactor() );
+			final double reserved = grid.reservePower( request.getStackSize() / energyFactor, PowerMultiplier.CONFIG );
+
+			if( reserved > 0 )
+			{
+				return reservedExtraction( grid, reserved, cell, request, src );
+			}
+		}
+
 		final T possible = cell.extractItems( request.copy(), Actionable.SIMULATE, src );
 
 		long retrieved = 0;
@@ -1226,6 +1239,18 @@ public class Platform
 		Preconditions.checkNotNull( src );
 		Preconditions.checkNotNull( mode );
 
+		final IEnergyGrid grid = mode == Actionable.MODULATE ? getReservableGrid( energy ) : null;
+		if( grid != null )
+		{
+			final double energyFactor = Math.max( 1.0, cell.getChannel().transferFactor() );
+			final double reserved = grid.reservePower( input.getStackSize() / energyFactor, PowerMultiplier.CONFIG );
+
+			if( reserved > 0 )
+			{
+				return reservedInsert( grid, reserved, cell, input, src );
+			}
+		}
+
 		final T possible = cell.injectItems( input.copy(), Actionable.SIMULATE, src );
 
 		long stored = input.getStackSize();
@@ -1280,6 +1305,88 @@ public class Platform
 		return input;
 	}
 
+	/**
+	 * Grid power can be reserved and reconciled afterwards, which lets powered moves touch the storage only once. Grids
+	 * which refuse the reservation are handled like any other energy source.
+	 */
+	private static IEnergyGrid getReservableGrid( final IEnergySource energy )
+	{
+		if( energy instanceof IEnergyGrid )
+		{
+			return (IEnergyGrid) energy;
+		}
+		if( energy instanceof ChannelPowerSrc )
+		{
+			return ( (ChannelPowerSrc) energy ).getEnergyGrid();
+		}
+		return null;
+	}
+
+	private static <T extends IAEStack<T>> T reservedExtraction( final IEnergyGrid grid, final double reserved, final IMEInventory<T> cell, final T request, final IActionSource src )
+	{
+		final double energyFactor = Math.max( 1.0, cell.getChannel().transferFactor() );
+		final long itemToExtract = Math.min( (long) ( ( reserved * energyFactor ) + 0.9 ), request.getStackSize() );
+
+		if( itemToExtract <= 0 )
+		{
+			grid.refundPower( reserved, PowerMultiplier.CONFIG );
+			return null;
+		}
+
+		final T ret = cell.extractItems( request.copy().setStackSize( itemToExtract ), Actionable.MODULATE, src );
+		final long retrieved = ret == null ? 0 : ret.getStackSize();
+
+		grid.commitPower( reserved, retrieved / energyFactor, PowerMultiplier.CONFIG );
+
+		if( ret != null )
+		{
+			src.player().ifPresent( player -> Stats.ItemsExtracted.addToPlayer( player, (int) retrieved ) );
+		}
+
+		return ret;
+	}
+
+	private static <T extends IAEStack<T>> T reservedInsert( final IEnergyGrid grid, final double reserved, final IMEInventory<T> cell, final T input, final IActionSource src )
+	{
+		final double energyFactor = Math.max( 1.0, cell.getChannel().transferFactor() );
+		final long itemToAdd = Math.min( (long) ( ( reserved * energyFactor ) + 0.9 ), input.getStackSize() );
+
+		if( itemToAdd <= 0 )
+		{
+			grid.refundPower( reserved, PowerMultiplier.CONFIG );
+			return input;
+		}
+
+		final T split;
+		final T toInsert;
+		if( itemToAdd < input.getStackSize() )
+		{
+			split = input.copy();
+			split.decStackSize( itemToAdd );
+			toInsert = input.copy().setStackSize( itemToAdd );
+		}
+		else
+		{
+			split = null;
+			toInsert = input;
+		}
+
+		final T notStored = cell.injectItems( toInsert, Actionable.MODULATE, src );
+		final long stored = notStored == null ? itemToAdd : itemToAdd - notStored.getStackSize();
+
+		grid.commitPower( reserved, stored / energyFactor, PowerMultiplier.CONFIG );
+
+		src.player().ifPresent( player -> Stats.ItemsInserted.addToPlayer( player, (int) stored ) );
+
+		if( split != null )
+		{
+			split.add( notStored );
+			return split;
+		}
+
+		return notStored;
+	}
+
 	@SuppressWarnings( { "rawtypes", "unchecked" } )
 	public static void postChanges( final IStorageGrid gs, final ItemStack removed, final ItemStack added, final IActionSource src )
 	{
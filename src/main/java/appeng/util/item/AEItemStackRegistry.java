@@ -24,9 +24,6 @@
 package appeng.util.item;
 
 
-import java.lang.ref.WeakReference;
-import java.util.WeakHashMap;
-
 import javax.annotation.Nonnull;
 
 import net.minecraft.item.ItemStack;
@@ -36,14 +33,14 @@ import appeng.util.Platform;
 
 public final class AEItemStackRegistry
 {
-	private static final WeakHashMap<AESharedItemStack, WeakReference<AESharedItemStack>> SERVER_REGISTRY = new WeakHashMap<>();
-	private static final WeakHashMap<AESharedItemStack, WeakReference<AESharedItemStack>> CLIENT_REGISTRY = new WeakHashMap<>();
+	private static final ItemStackInterner SERVER_REGISTRY = new ItemStackInterner();
+	private static final ItemStackInterner CLIENT_REGISTRY = new ItemStackInterner();
 
 	private AEItemStackRegistry()
 	{
 	}
 
-	private static WeakHashMap<AESharedItemStack, WeakReference<AESharedItemStack>> registry()
+	private static ItemStackInterner registry()
 	{
 		if( Platform.isClient() )
 		{
@@ -55,32 +52,37 @@ public final class AEItemStackRegistry
 		}
 	}
 
-	static synchronized AESharedItemStack getRegisteredStack( final @Nonnull ItemStack itemStack )
+	static AESharedItemStack getRegisteredStack( final @Nonnull ItemStack itemStack )
 	{
 		if( itemStack.isEmpty() )
 		{
 			throw new IllegalArgumentException( "stack cannot be empty" );
 		}
 
-		int oldStackSize = itemStack.getCount();
-		itemStack.setCount( 1 );
-
-		AESharedItemStack search = new AESharedItemStack( itemStack );
-		WeakReference<AESharedItemStack> weak = registry().get( search );
-		AESharedItemStack ret = null;
+		return registry().intern( itemStack );
+	}
 
-		if( weak != null )
-		{
-			ret = weak.get();
-		}
+	/**
+	 * @return the number of lookups which found an already registered stack.
+	 */
+	public static long getHits()
+	{
+		return registry().getHits();
+	}
 
-		if( ret == null )
-		{
-			ret = new AESharedItemStack( itemStack.copy() );
-			registry().put( ret, new WeakReference<>( ret ) );
-		}
-		itemStack.setCount( oldStackSize );
+	/**
+	 * @return the number of lookups which had to register a new stack.
+	 */
+	public static long getMisses()
+	{
+		return registry().getMisses();
+	}
 
-		return ret;
+	/**
+	 * @return the number of registered stacks, including some which are about to be removed.
+	 */
+	public static int size()
+	{
+		return registry().size();
 	}
 }
@@ -19,8 +19,6 @@
 package appeng.util.item;
 
 
-import java.util.Objects;
-
 import com.google.common.base.Preconditions;
 
 import net.minecraft.item.Item;
@@ -148,7 +146,17 @@ final class AESharedItemStack implements Comparable<AESharedItemStack>
 
 	private int makeHashCode()
 	{
-		return Objects.hash( this.itemId, this.itemDamage, this.itemStack.hasTagCompound() ? this.itemStack.getTagCompound() : 0 );
+		return makeHashCode( this.itemId, this.itemDamage, this.itemStack.getTagCompound() );
+	}
+
+	/**
+	 * Same as {@link java.util.Objects#hash} over id, damage and tag (or 0), without allocating.
+	 */
+	static int makeHashCode( final int itemId, final int itemDamage, final NBTTagCompound tag )
+	{
+		int hash = 31 + itemId;
+		hash = hash * 31 + itemDamage;
+		return hash * 31 + ( tag != null ? tag.hashCode() : 0 );
 	}
 
 	/**
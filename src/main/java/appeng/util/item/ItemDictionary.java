@@ -0,0 +1,102 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import appeng.api.storage.data.IAEItemStack;
+
+
+/**
+ * Compact ids for the item types sent to the client of a single terminal.
+ *
+ * The server assigns an id the first time it sends a type, and after that only sends the id with the amounts. Both
+ * sides keep one dictionary per open container, so it is dropped together with the container once it is closed.
+ */
+public class ItemDictionary
+{
+
+	// server side.
+	private final Map<IAEItemStack, Integer> ids = new HashMap<>();
+
+	// client side.
+	private final List<IAEItemStack> definitions = new ArrayList<>();
+
+	/**
+	 * @return the id of the type, or -1 if it was not sent yet.
+	 */
+	public int getId( final IAEItemStack what )
+	{
+		return this.ids.getOrDefault( what, -1 );
+	}
+
+	/**
+	 * @return the id the next type will get.
+	 */
+	public int getNextId()
+	{
+		return this.ids.size();
+	}
+
+	/**
+	 * Marks the type as sent, it has to be written with {@link #getNextId()}.
+	 */
+	public int assign( final IAEItemStack what )
+	{
+		final int id = this.ids.size();
+		this.ids.put( what.copy(), id );
+		return id;
+	}
+
+	/**
+	 * Remembers the type the server sent with the given id.
+	 */
+	public void define( final int id, final IAEItemStack definition )
+	{
+		while( this.definitions.size() <= id )
+		{
+			this.definitions.add( null );
+		}
+
+		this.definitions.set( id, definition == null ? null : definition.copy() );
+	}
+
+	/**
+	 * @return a new stack of the type with the given id and amounts, or null if the id is unknown.
+	 */
+	public IAEItemStack resolve( final int id, final long stackSize, final long countRequestable, final boolean craftable )
+	{
+		final IAEItemStack definition = id >= 0 && id < this.definitions.size() ? this.definitions.get( id ) : null;
+
+		if( definition == null )
+		{
+			return null;
+		}
+
+		final IAEItemStack out = definition.copy();
+		out.setStackSize( stackSize );
+		out.setCountRequestable( countRequestable );
+		out.setCraftable( craftable );
+		return out;
+	}
+}
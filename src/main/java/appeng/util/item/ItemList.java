@@ -23,7 +23,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
 
 import net.minecraftforge.oredict.OreDictionary;
@@ -34,10 +36,17 @@ import appeng.api.storage.data.IItemList;
 import appeng.util.item.AESharedItemStack.Bounds;
 
 
+/**
+ * Exact lookups go through a hash map, the ordered index needed for fuzzy lookups and {@link #getFirstItem()} is only
+ * built once it is first needed and kept up to date from then on. Iteration follows the hash map and is unordered.
+ *
+ * Both maps are concurrent, like the single sorted map before, so lists can still be changed while being iterated.
+ */
 public final class ItemList implements IItemList<IAEItemStack>
 {
 
-	private final NavigableMap<AESharedItemStack, IAEItemStack> records = new ConcurrentSkipListMap<>();
+	private final Map<AESharedItemStack, IAEItemStack> records = new ConcurrentHashMap<>();
+	private volatile NavigableMap<AESharedItemStack, IAEItemStack> ordered;
 
 	@Override
 	public void add( final IAEItemStack option )
@@ -185,9 +194,13 @@ public final class ItemList implements IItemList<IAEItemStack>
 	@Override
 	public IAEItemStack getFirstItem()
 	{
-		for( final IAEItemStack stackType : this )
+		// callers expect the first item in sort order, not the first one the hash map happens to return.
+		for( final IAEItemStack stackType : this.getOrdered().values() )
 		{
-			return stackType;
+			if( stackType.isMeaningful() )
+			{
+				return stackType;
+			}
 		}
 
 		return null;
@@ -202,7 +215,7 @@ public final class ItemList implements IItemList<IAEItemStack>
 	@Override
 	public Iterator<IAEItemStack> iterator()
 	{
-		return new MeaningfulItemIterator<>( this.records.values().iterator() );
+		return new MeaningfulItemIterator<>( new RecordIterator( this.records.entrySet().iterator() ) );
 	}
 
 	@Override
@@ -216,7 +229,29 @@ public final class ItemList implements IItemList<IAEItemStack>
 
 	private IAEItemStack putItemRecord( final IAEItemStack itemStack )
 	{
-		return this.records.put( ( (AEItemStack) itemStack ).getSharedStack(), itemStack );
+		final AESharedItemStack key = ( (AEItemStack) itemStack ).getSharedStack();
+		final NavigableMap<AESharedItemStack, IAEItemStack> index = this.ordered;
+
+		if( index != null )
+		{
+			index.put( key, itemStack );
+		}
+
+		return this.records.put( key, itemStack );
+	}
+
+	private NavigableMap<AESharedItemStack, IAEItemStack> getOrdered()
+	{
+		NavigableMap<AESharedItemStack, IAEItemStack> index = this.ordered;
+
+		if( index == null )
+		{
+			// published before filling, so records added meanwhile are not missed.
+			this.ordered = index = new ConcurrentSkipListMap<>();
+			index.putAll( this.records );
+		}
+
+		return index;
 	}
 
 	private Collection<IAEItemStack> findFuzzyDamage( final IAEItemStack filter, final FuzzyMode fuzzy, final boolean ignoreMeta )
@@ -224,6 +259,47 @@ public final class ItemList implements IItemList<IAEItemStack>
 		final AEItemStack itemStack = (AEItemStack) filter;
 		final Bounds bounds = itemStack.getSharedStack().getBounds( fuzzy, ignoreMeta );
 
-		return this.records.subMap( bounds.lower(), true, bounds.upper(), true ).descendingMap().values();
+		return this.getOrdered().subMap( bounds.lower(), true, bounds.upper(), true ).descendingMap().values();
+	}
+
+	/**
+	 * Removes records from the ordered index as well.
+	 */
+	private class RecordIterator implements Iterator<IAEItemStack>
+	{
+
+		private final Iterator<Map.Entry<AESharedItemStack, IAEItemStack>> parent;
+		private AESharedItemStack current;
+
+		private RecordIterator( final Iterator<Map.Entry<AESharedItemStack, IAEItemStack>> parent )
+		{
+			this.parent = parent;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return this.parent.hasNext();
+		}
+
+		@Override
+		public IAEItemStack next()
+		{
+			final Map.Entry<AESharedItemStack, IAEItemStack> entry = this.parent.next();
+			this.current = entry.getKey();
+			return entry.getValue();
+		}
+
+		@Override
+		public void remove()
+		{
+			this.parent.remove();
+
+			final NavigableMap<AESharedItemStack, IAEItemStack> index = ItemList.this.ordered;
+			if( index != null )
+			{
+				index.remove( this.current );
+			}
+		}
 	}
 }
@@ -0,0 +1,231 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+
+/**
+ * Weakly holds one {@link AESharedItemStack} per item type.
+ *
+ * The table is split into segments with their own lock, so threads only contend when they look up types in the same
+ * segment. Lookups hash and compare the given stack directly, so a hit neither allocates nor touches the stack.
+ * Entries of collected stacks are removed through a reference queue whenever a segment is changed.
+ */
+final class ItemStackInterner
+{
+
+	private static final int SEGMENTS = 16;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	ItemStackInterner()
+	{
+		for( int i = 0; i < SEGMENTS; i++ )
+		{
+			this.segments[i] = new Segment();
+		}
+	}
+
+	AESharedItemStack intern( final ItemStack itemStack )
+	{
+		final int hash = AESharedItemStack.makeHashCode( Item.getIdFromItem( itemStack.getItem() ), itemStack.getItemDamage(), itemStack
+				.getTagCompound() );
+		final Segment segment = this.segments[spread( hash ) & ( SEGMENTS - 1 )];
+
+		synchronized( segment )
+		{
+			final AESharedItemStack found = segment.find( hash, itemStack );
+
+			if( found != null )
+			{
+				this.hits.increment();
+				return found;
+			}
+
+			this.misses.increment();
+
+			final ItemStack definition = itemStack.copy();
+			definition.setCount( 1 );
+
+			final AESharedItemStack created = new AESharedItemStack( definition );
+			segment.add( hash, created );
+			return created;
+		}
+	}
+
+	long getHits()
+	{
+		return this.hits.sum();
+	}
+
+	long getMisses()
+	{
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return the number of entries, including ones whose stack was collected but not yet removed.
+	 */
+	int size()
+	{
+		int size = 0;
+
+		for( final Segment segment : this.segments )
+		{
+			synchronized( segment )
+			{
+				size += segment.count;
+			}
+		}
+
+		return size;
+	}
+
+	private static int spread( final int hash )
+	{
+		return hash ^ ( hash >>> 16 );
+	}
+
+	/**
+	 * Same as {@link AESharedItemStack#equals}, ignoring the count.
+	 */
+	private static boolean isSameType( final ItemStack shared, final ItemStack other )
+	{
+		return shared.getItem() == other.getItem() && shared.getItemDamage() == other.getItemDamage() && ItemStack.areItemStackTagsEqual( shared,
+				other ) && shared.areCapsCompatible( other );
+	}
+
+	private static final class Segment
+	{
+
+		private final ReferenceQueue<AESharedItemStack> queue = new ReferenceQueue<>();
+		private Entry[] table = new Entry[INITIAL_CAPACITY];
+		private int count = 0;
+
+		private AESharedItemStack find( final int hash, final ItemStack itemStack )
+		{
+			for( Entry e = this.table[this.indexFor( hash )]; e != null; e = e.next )
+			{
+				if( e.hash == hash )
+				{
+					final AESharedItemStack shared = e.get();
+
+					if( shared != null && isSameType( shared.getDefinition(), itemStack ) )
+					{
+						return shared;
+					}
+				}
+			}
+
+			return null;
+		}
+
+		private void add( final int hash, final AESharedItemStack shared )
+		{
+			this.expunge();
+
+			if( this.count >= this.table.length * 3 / 4 )
+			{
+				this.resize();
+			}
+
+			final int index = this.indexFor( hash );
+			this.table[index] = new Entry( shared, hash, this.table[index], this.queue );
+			this.count++;
+		}
+
+		private void expunge()
+		{
+			Object collected;
+
+			while( ( collected = this.queue.poll() ) != null )
+			{
+				final Entry stale = (Entry) collected;
+				final int index = this.indexFor( stale.hash );
+				Entry previous = null;
+
+				for( Entry e = this.table[index]; e != null; previous = e, e = e.next )
+				{
+					if( e == stale )
+					{
+						if( previous == null )
+						{
+							this.table[index] = e.next;
+						}
+						else
+						{
+							previous.next = e.next;
+						}
+
+						this.count--;
+						break;
+					}
+				}
+			}
+		}
+
+		private void resize()
+		{
+			final Entry[] old = this.table;
+			this.table = new Entry[old.length * 2];
+
+			for( Entry head : old )
+			{
+				while( head != null )
+				{
+					final Entry next = head.next;
+					final int index = this.indexFor( head.hash );
+					head.next = this.table[index];
+					this.table[index] = head;
+					head = next;
+				}
+			}
+		}
+
+		private int indexFor( final int hash )
+		{
+			// the low bits pick the segment, so use the high ones here.
+			return ( spread( hash ) >>> 4 ) & ( this.table.length - 1 );
+		}
+	}
+
+	private static final class Entry extends WeakReference<AESharedItemStack>
+	{
+
+		private final int hash;
+		private Entry next;
+
+		private Entry( final AESharedItemStack referent, final int hash, final Entry next, final ReferenceQueue<AESharedItemStack> queue )
+		{
+			super( referent, queue );
+			this.hash = hash;
+			this.next = next;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.me;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link TrigramIndex}
+ */
+public final class TrigramIndexTest
+{
+	private final TrigramIndex index = new TrigramIndex();
+
+	@Test
+	public void testFindsTextsContainingTheSearch()
+	{
+		this.index.add( 0, "iron ingot" );
+		this.index.add( 1, "gold ingot" );
+		this.index.add( 2, "iron block" );
+
+		assertEquals( bits( 0, 2 ), this.index.find( "iron" ) );
+		assertEquals( bits( 0, 1 ), this.index.find( "ingot" ) );
+		assertEquals( bits(), this.index.find( "diamond" ) );
+	}
+
+	@Test
+	public void testCandidatesAreASupersetOfMatches()
+	{
+		this.index.add( 0, "abc bcd" );
+		this.index.add( 1, "abcd" );
+		this.index.add( 2, "bcd" );
+
+		// the first text contains every trigram but not the search, the caller still has to match.
+		assertEquals( bits( 0, 1 ), this.index.find( "abcd" ) );
+	}
+
+	@Test
+	public void testIndexesEveryLine()
+	{
+		this.index.add( 0, Arrays.asList( "first line", "stored energy" ) );
+		this.index.add( 0, "repeated" );
+		this.index.add( 1, "other" );
+
+		assertEquals( bits( 0 ), this.index.find( "energy" ) );
+		assertEquals( bits( 0 ), this.index.find( "peat" ) );
+	}
+
+	@Test
+	public void testIsIndexable()
+	{
+		assertTrue( TrigramIndex.isIndexable( "ingot" ) );
+		assertFalse( TrigramIndex.isIndexable( "in" ) );
+		assertFalse( TrigramIndex.isIndexable( "ing.t" ) );
+		assertFalse( TrigramIndex.isIndexable( "^iron" ) );
+	}
+
+	private static BitSet bits( final int... ids )
+	{
+		final BitSet out = new BitSet();
+
+		for( final int id : ids )
+		{
+			out.set( id );
+		}
+
+		return out;
+	}
+}
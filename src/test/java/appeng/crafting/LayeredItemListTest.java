@@ -0,0 +1,509 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+
+
+/**
+ * Tests for {@link LayeredItemList}
+ *
+ * Real item stacks need a running game, so the stacks are identified by a name and fuzzy matched by its first letter.
+ */
+public final class LayeredItemListTest
+{
+	private final IItemList<IAEItemStack> parent = new TestList();
+	private LayeredItemList layer;
+
+	@Before
+	public void setUp()
+	{
+		this.parent.add( stack( "apple", 5 ) );
+		this.parent.add( stack( "bread", 2 ) );
+		this.layer = new LayeredItemList( this.parent, new TestList() );
+	}
+
+	@Test
+	public void testReadsThroughToParent()
+	{
+		assertSame( this.parent.findPrecise( stack( "apple", 0 ) ), this.layer.findPrecise( stack( "apple", 0 ) ) );
+		assertNull( this.layer.findPrecise( stack( "cake", 0 ) ) );
+		assertEquals( "apple:5 bread:2", contents( this.layer ) );
+	}
+
+	@Test
+	public void testChangesStayInLayer()
+	{
+		this.layer.add( stack( "apple", 3 ) );
+		this.layer.touch( stack( "bread", 0 ) ).decStackSize( 2 );
+
+		assertEquals( 8, this.layer.findPrecise( stack( "apple", 0 ) ).getStackSize() );
+		assertEquals( 0, this.layer.findPrecise( stack( "bread", 0 ) ).getStackSize() );
+		assertEquals( "apple:8", contents( this.layer ) );
+
+		assertEquals( "apple:5 bread:2", contents( this.parent ) );
+	}
+
+	@Test
+	public void testNewTypesAreListed()
+	{
+		assertNull( this.layer.touch( stack( "cake", 0 ) ) );
+
+		this.layer.addStorage( stack( "cake", 4 ) );
+
+		assertEquals( 4, this.layer.findPrecise( stack( "cake", 0 ) ).getStackSize() );
+		assertEquals( "apple:5 bread:2 cake:4", contents( this.layer ) );
+		assertNull( this.parent.findPrecise( stack( "cake", 0 ) ) );
+
+		// used up types are hidden again, but keep their local copy.
+		this.layer.touch( stack( "cake", 0 ) ).decStackSize( 4 );
+		assertEquals( "apple:5 bread:2", contents( this.layer ) );
+		assertEquals( 0, this.layer.findPrecise( stack( "cake", 0 ) ).getStackSize() );
+	}
+
+	@Test
+	public void testNeverStoresCraftable()
+	{
+		this.parent.add( stack( "cake", 1 ).setCraftable( true ) );
+		final IAEItemStack craftable = stack( "apple", 1 ).setCraftable( true );
+
+		this.layer.add( craftable );
+
+		assertFalse( this.layer.findPrecise( stack( "apple", 0 ) ).isCraftable() );
+		assertFalse( this.layer.touch( stack( "cake", 0 ) ).isCraftable() );
+		assertTrue( craftable.isCraftable() );
+		assertTrue( this.parent.findPrecise( stack( "cake", 0 ) ).isCraftable() );
+	}
+
+	@Test
+	public void testFindFuzzyPrefersLocalCopies()
+	{
+		this.parent.add( stack( "avocado", 1 ) );
+		this.layer.add( stack( "apple", 1 ) );
+		this.layer.add( stack( "apricot", 7 ) );
+
+		assertEquals( "apple:6 avocado:1 apricot:7", contents( this.layer.findFuzzy( stack( "a", 0 ), FuzzyMode.IGNORE_ALL ) ) );
+		assertEquals( "bread:2", contents( this.layer.findFuzzy( stack( "b", 0 ), FuzzyMode.IGNORE_ALL ) ) );
+	}
+
+	@Test
+	public void testResetStatusOnlyResetsLayer()
+	{
+		this.layer.addStorage( stack( "cake", 4 ) );
+
+		this.layer.resetStatus();
+
+		assertTrue( this.layer.isEmpty() );
+		assertNull( this.layer.getFirstItem() );
+		assertEquals( "apple:5 bread:2", contents( this.parent ) );
+	}
+
+	@Test
+	public void testNestedLayers()
+	{
+		this.layer.add( stack( "apple", 1 ) );
+		final LayeredItemList nested = new LayeredItemList( this.layer, new TestList() );
+
+		nested.touch( stack( "apple", 0 ) ).decStackSize( 6 );
+		nested.add( stack( "cake", 1 ) );
+
+		assertEquals( "bread:2 cake:1", contents( nested ) );
+		assertEquals( "apple:6 bread:2", contents( this.layer ) );
+		assertEquals( "apple:5 bread:2", contents( this.parent ) );
+	}
+
+	private static IAEItemStack stack( final String name, final long size )
+	{
+		return new TestStack( name ).setStackSize( size );
+	}
+
+	private static String contents( final Iterable<IAEItemStack> list )
+	{
+		final List<String> out = new ArrayList<>();
+
+		for( final IAEItemStack is : list )
+		{
+			out.add( is + ":" + is.getStackSize() );
+		}
+
+		return String.join( " ", out );
+	}
+
+	/**
+	 * Keeps insertion order and hides empty entries, like the item lists of the storage channels.
+	 */
+	private static final class TestList implements IItemList<IAEItemStack>
+	{
+		private final Map<IAEItemStack, IAEItemStack> records = new LinkedHashMap<>();
+
+		@Override
+		public void add( final IAEItemStack option )
+		{
+			if( option == null )
+			{
+				return;
+			}
+
+			final IAEItemStack st = this.records.get( option );
+
+			if( st != null )
+			{
+				st.add( option );
+				return;
+			}
+
+			final IAEItemStack copy = option.copy();
+			this.records.put( copy, copy );
+		}
+
+		@Override
+		public IAEItemStack findPrecise( final IAEItemStack i )
+		{
+			return i == null ? null : this.records.get( i );
+		}
+
+		@Override
+		public Collection<IAEItemStack> findFuzzy( final IAEItemStack input, final FuzzyMode fuzzy )
+		{
+			final List<IAEItemStack> out = new ArrayList<>();
+
+			for( final IAEItemStack is : this.records.values() )
+			{
+				if( is.fuzzyComparison( input, fuzzy ) )
+				{
+					out.add( is );
+				}
+			}
+
+			return out;
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return !this.iterator().hasNext();
+		}
+
+		@Override
+		public void addStorage( final IAEItemStack option )
+		{
+			this.add( option.copy().reset().setStackSize( option.getStackSize() ) );
+		}
+
+		@Override
+		public void addCrafting( final IAEItemStack option )
+		{
+			this.add( option.copy().reset().setCraftable( true ) );
+		}
+
+		@Override
+		public void addRequestable( final IAEItemStack option )
+		{
+			this.add( option.copy().reset().setCountRequestable( option.getCountRequestable() ) );
+		}
+
+		@Override
+		public IAEItemStack getFirstItem()
+		{
+			final Iterator<IAEItemStack> i = this.iterator();
+			return i.hasNext() ? i.next() : null;
+		}
+
+		@Override
+		public int size()
+		{
+			return this.records.size();
+		}
+
+		@Override
+		public Iterator<IAEItemStack> iterator()
+		{
+			final List<IAEItemStack> meaningful = new ArrayList<>();
+
+			for( final IAEItemStack is : this.records.values() )
+			{
+				if( is.isMeaningful() )
+				{
+					meaningful.add( is );
+				}
+			}
+
+			return meaningful.iterator();
+		}
+
+		@Override
+		public void resetStatus()
+		{
+			for( final IAEItemStack is : this.records.values() )
+			{
+				is.reset();
+			}
+		}
+	}
+
+	/**
+	 * Only the amounts and the name, everything that needs real items is unsupported.
+	 */
+	private static final class TestStack implements IAEItemStack
+	{
+		private final String name;
+		private long stackSize;
+		private long countRequestable;
+		private boolean craftable;
+
+		private TestStack( final String name )
+		{
+			this.name = name;
+		}
+
+		@Override
+		public void add( final IAEItemStack option )
+		{
+			this.stackSize += option.getStackSize();
+			this.countRequestable += option.getCountRequestable();
+			this.craftable |= option.isCraftable();
+		}
+
+		@Override
+		public long getStackSize()
+		{
+			return this.stackSize;
+		}
+
+		@Override
+		public IAEItemStack setStackSize( final long stackSize )
+		{
+			this.stackSize = stackSize;
+			return this;
+		}
+
+		@Override
+		public long getCountRequestable()
+		{
+			return this.countRequestable;
+		}
+
+		@Override
+		public IAEItemStack setCountRequestable( final long countRequestable )
+		{
+			this.countRequestable = countRequestable;
+			return this;
+		}
+
+		@Override
+		public boolean isCraftable()
+		{
+			return this.craftable;
+		}
+
+		@Override
+		public IAEItemStack setCraftable( final boolean isCraftable )
+		{
+			this.craftable = isCraftable;
+			return this;
+		}
+
+		@Override
+		public IAEItemStack reset()
+		{
+			this.stackSize = 0;
+			this.countRequestable = 0;
+			this.craftable = false;
+			return this;
+		}
+
+		@Override
+		public boolean isMeaningful()
+		{
+			return this.stackSize != 0 || this.countRequestable > 0 || this.craftable;
+		}
+
+		@Override
+		public void incStackSize( final long i )
+		{
+			this.stackSize += i;
+		}
+
+		@Override
+		public void decStackSize( final long i )
+		{
+			this.stackSize -= i;
+		}
+
+		@Override
+		public void incCountRequestable( final long i )
+		{
+			this.countRequestable += i;
+		}
+
+		@Override
+		public void decCountRequestable( final long i )
+		{
+			this.countRequestable -= i;
+		}
+
+		@Override
+		public boolean fuzzyComparison( final IAEItemStack other, final FuzzyMode mode )
+		{
+			return this.name.charAt( 0 ) == ( (TestStack) other ).name.charAt( 0 );
+		}
+
+		@Override
+		public IAEItemStack copy()
+		{
+			final TestStack copy = new TestStack( this.name );
+			copy.add( this );
+			return copy;
+		}
+
+		@Override
+		public IAEItemStack empty()
+		{
+			return this.copy().reset();
+		}
+
+		@Override
+		public boolean isItem()
+		{
+			return true;
+		}
+
+		@Override
+		public boolean isFluid()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isSameType( final IAEItemStack otherStack )
+		{
+			return this.equals( otherStack );
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return this.name.hashCode();
+		}
+
+		@Override
+		public boolean equals( final Object obj )
+		{
+			return obj instanceof TestStack && ( (TestStack) obj ).name.equals( this.name );
+		}
+
+		@Override
+		public String toString()
+		{
+			return this.name;
+		}
+
+		@Override
+		public void writeToNBT( final NBTTagCompound i )
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void writeToPacket( final ByteBuf data )
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public IStorageChannel<IAEItemStack> getChannel()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ItemStack asItemStackRepresentation()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public ItemStack createItemStack()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public boolean hasTagCompound()
+		{
+			return false;
+		}
+
+		@Override
+		public Item getItem()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int getItemDamage()
+		{
+			return 0;
+		}
+
+		@Override
+		public boolean sameOre( final IAEItemStack is )
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isSameType( final ItemStack stored )
+		{
+			return false;
+		}
+
+		@Override
+		public ItemStack getDefinition()
+		{
+			throw new UnsupportedOperationException();
+		}
+	}
+}
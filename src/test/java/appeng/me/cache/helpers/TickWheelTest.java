@@ -0,0 +1,123 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link TickWheel}
+ */
+public final class TickWheelTest
+{
+	private final TickWheel<TestEntry> wheel = new TickWheel<>();
+
+	@Test
+	public void testPollInScheduleOrder()
+	{
+		final TestEntry first = new TestEntry();
+		final TestEntry second = new TestEntry();
+
+		this.wheel.schedule( first, 5 );
+		this.wheel.schedule( second, 5 );
+
+		assertNull( this.wheel.poll( 4 ) );
+		assertSame( first, this.wheel.poll( 5 ) );
+		assertSame( second, this.wheel.poll( 5 ) );
+		assertNull( this.wheel.poll( 5 ) );
+		assertTrue( this.wheel.isEmpty() );
+	}
+
+	@Test
+	public void testRescheduleReplacesPreviousTick()
+	{
+		final TestEntry entry = new TestEntry();
+
+		this.wheel.schedule( entry, 5 );
+		this.wheel.schedule( entry, 7 );
+
+		assertEquals( 1, this.wheel.size() );
+		assertNull( this.wheel.poll( 5 ) );
+		assertSame( entry, this.wheel.poll( 7 ) );
+		assertFalse( entry.isScheduled() );
+	}
+
+	@Test
+	public void testSkipsEntriesOfLaterRotations()
+	{
+		final TestEntry later = new TestEntry();
+		final TestEntry now = new TestEntry();
+
+		this.wheel.schedule( later, 3 + 512 );
+		this.wheel.schedule( now, 3 );
+
+		assertSame( now, this.wheel.poll( 3 ) );
+		assertNull( this.wheel.poll( 3 ) );
+		assertSame( later, this.wheel.poll( 3 + 512 ) );
+	}
+
+	@Test
+	public void testPollAfterSkippedEntryChanges()
+	{
+		final TestEntry later = new TestEntry();
+		final TestEntry first = new TestEntry();
+		final TestEntry second = new TestEntry();
+		final TestEntry added = new TestEntry();
+
+		this.wheel.schedule( later, 3 + 512 );
+		this.wheel.schedule( first, 3 );
+		this.wheel.schedule( second, 3 );
+
+		assertSame( first, this.wheel.poll( 3 ) );
+
+		// the skipped entry leaves the bucket and a new one is added while draining.
+		this.wheel.cancel( later );
+		this.wheel.schedule( added, 3 );
+
+		assertSame( second, this.wheel.poll( 3 ) );
+		assertSame( added, this.wheel.poll( 3 ) );
+		assertNull( this.wheel.poll( 3 ) );
+		assertTrue( this.wheel.isEmpty() );
+	}
+
+	@Test
+	public void testCancel()
+	{
+		final TestEntry entry = new TestEntry();
+
+		assertFalse( this.wheel.cancel( entry ) );
+
+		this.wheel.schedule( entry, 1 );
+
+		assertTrue( this.wheel.cancel( entry ) );
+		assertNull( this.wheel.poll( 1 ) );
+		assertTrue( this.wheel.isEmpty() );
+	}
+
+	private static final class TestEntry extends TickWheel.Entry<TestEntry>
+	{
+	}
+}
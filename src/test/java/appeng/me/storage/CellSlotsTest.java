@@ -0,0 +1,140 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+
+/**
+ * Tests for {@link CellSlots}
+ */
+public final class CellSlotsTest
+{
+	private static final int SLOTS = 63;
+
+	private final CellSlots<String> slots = new CellSlots<>( SLOTS );
+
+	@Test
+	public void testTypesKeepTheirSlots()
+	{
+		final BitSet added = new BitSet();
+
+		assertArrayEquals( new int[] { 0, 1, 2 }, this.slots.assign( Arrays.asList( "a", "b", "c" ), added ) );
+		assertEquals( 3, added.cardinality() );
+
+		added.clear();
+		assertArrayEquals( new int[] { 2, 0 }, this.slots.assign( Arrays.asList( "c", "a" ), added ) );
+		assertTrue( added.isEmpty() );
+
+		// the freed slot of b is reused.
+		assertArrayEquals( new int[] { 1, 0 }, this.slots.assign( Arrays.asList( "d", "a" ), added ) );
+		assertEquals( 1, added.cardinality() );
+		assertTrue( added.get( 1 ) );
+	}
+
+	@Test
+	public void testFullCellCanSwapATypeBetweenWrites()
+	{
+		final List<String> types = new ArrayList<>();
+		for( int x = 0; x < SLOTS; x++ )
+		{
+			types.add( "type" + x );
+		}
+
+		this.slots.assign( types, new BitSet() );
+
+		types.set( 17, "replacement" );
+		final BitSet added = new BitSet();
+		final int[] assigned = this.slots.assign( types, added );
+
+		assertEquals( 17, assigned[17] );
+		assertEquals( 1, added.cardinality() );
+		assertTrue( added.get( 17 ) );
+	}
+
+	@Test
+	public void testLoadedSlotsAreKept()
+	{
+		this.slots.load( 5, "a" );
+
+		final BitSet added = new BitSet();
+		assertArrayEquals( new int[] { 0, 5 }, this.slots.assign( Arrays.asList( "b", "a" ), added ) );
+		assertFalse( added.get( 5 ) );
+	}
+
+	@Test
+	public void testPackedCountsRoundTrip()
+	{
+		final NBTTagCompound tag = new NBTTagCompound();
+		final long[] counts = new long[SLOTS];
+		counts[0] = 1;
+		counts[3] = Integer.MAX_VALUE + 10L;
+		counts[4] = Long.MAX_VALUE;
+
+		CellSlots.writeCounts( tag, counts );
+
+		assertEquals( 10, tag.getIntArray( "ics" ).length );
+		assertArrayEquals( counts, CellSlots.readCounts( tag, SLOTS, 0 ) );
+	}
+
+	@Test
+	public void testLegacyCountsAreReadAndConverted()
+	{
+		final NBTTagCompound tag = new NBTTagCompound();
+		tag.setInteger( "@0", 12 );
+		tag.setInteger( "@1", 34 );
+		tag.setInteger( "@2", 56 );
+
+		// only the stored types are read, later tags are left overs.
+		final long[] counts = CellSlots.readCounts( tag, SLOTS, 2 );
+		assertEquals( 12, counts[0] );
+		assertEquals( 34, counts[1] );
+		assertEquals( 0, counts[2] );
+
+		CellSlots.writeCounts( tag, counts );
+
+		assertFalse( tag.hasKey( "@0" ) );
+		assertFalse( tag.hasKey( "@2" ) );
+		assertArrayEquals( counts, CellSlots.readCounts( tag, SLOTS, 0 ) );
+	}
+
+	@Test
+	public void testEmptyCellRemovesCounts()
+	{
+		final NBTTagCompound tag = new NBTTagCompound();
+		tag.setIntArray( "ics", new int[] { 0, 1 } );
+
+		CellSlots.writeCounts( tag, new long[SLOTS] );
+
+		assertFalse( tag.hasKey( "ics" ) );
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.services.compass;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * Tests for {@link CompassSummary}
+ */
+public final class CompassSummaryTest
+{
+	private static final int DIMENSION = 0;
+
+	// two regions per side around the origin, so negative chunks are covered as well.
+	private static final int LOW = -0x400;
+	private static final int HIGH = 0x400;
+
+	private File folder;
+	private CompassReader reader;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		this.folder = Files.createTempDirectory( "compass" ).toFile();
+		this.reader = new CompassReader( DIMENSION, this.folder );
+	}
+
+	@After
+	public void tearDown()
+	{
+		this.reader.close();
+
+		for( final File file : this.folder.listFiles() )
+		{
+			file.delete();
+		}
+
+		this.folder.delete();
+	}
+
+	@Test
+	public void testAddMarksBlockAndArea()
+	{
+		final CompassSummary summary = new CompassSummary();
+		assertTrue( summary.isEmpty() );
+
+		summary.add( -3, 300 );
+
+		assertFalse( summary.isEmpty() );
+		assertFalse( summary.isBlockEmpty( -16, 288 ) );
+		assertTrue( summary.isBlockEmpty( -17, 300 ) );
+		assertFalse( summary.isAreaEmpty( -256, 256 ) );
+		assertTrue( summary.isAreaEmpty( -257, 300 ) );
+	}
+
+	@Test
+	public void testAddAfterSummaryWasBuilt()
+	{
+		assertEquals( 0x400 - 5, this.reader.getEmptyRun( 5, 5, false ) );
+
+		this.reader.setHasBeacon( 20, 5, 0, true );
+
+		assertEquals( 0x10 - 5, this.reader.getEmptyRun( 5, 5, false ) );
+		assertEquals( 0, this.reader.getEmptyRun( 20, 5, false ) );
+	}
+
+	@Test
+	public void testRefreshKeepsChunkWithOtherBeacon()
+	{
+		this.reader.setHasBeacon( 5, 5, 0, true );
+		this.reader.setHasBeacon( 5, 5, 3, true );
+		assertEquals( 0, this.reader.getEmptyRun( 5, 5, false ) );
+
+		this.reader.setHasBeacon( 5, 5, 0, false );
+		assertEquals( 0, this.reader.getEmptyRun( 5, 5, false ) );
+
+		this.reader.setHasBeacon( 5, 5, 3, false );
+		assertEquals( 0x400 - 5, this.reader.getEmptyRun( 5, 5, false ) );
+	}
+
+	@Test
+	public void testRefreshClearsBlockThenArea()
+	{
+		this.reader.setHasBeacon( 5, 5, 0, true );
+		this.reader.setHasBeacon( 10, 12, 0, true );
+		this.reader.setHasBeacon( 100, 100, 0, true );
+		this.reader.setHasBeacon( 300, 5, 0, true );
+		assertEquals( 0, this.reader.getEmptyRun( 5, 5, false ) );
+
+		// another beacon in the same block.
+		this.reader.setHasBeacon( 5, 5, 0, false );
+		assertEquals( 0, this.reader.getEmptyRun( 5, 5, false ) );
+
+		// another beacon in the same area.
+		this.reader.setHasBeacon( 10, 12, 0, false );
+		assertEquals( 0x10 - 5, this.reader.getEmptyRun( 5, 5, false ) );
+
+		// another beacon in the same region.
+		this.reader.setHasBeacon( 100, 100, 0, false );
+		assertEquals( 0x100 - 5, this.reader.getEmptyRun( 5, 5, false ) );
+
+		this.reader.setHasBeacon( 300, 5, 0, false );
+		assertEquals( 0x400 - 5, this.reader.getEmptyRun( 5, 5, false ) );
+	}
+
+	@Test
+	public void testSkippingSearchMatchesBruteForce()
+	{
+		final Random random = new Random( 1234 );
+		final Set<Long> beacons = new HashSet<>();
+
+		for( int round = 0; round < 3; round++ )
+		{
+			for( int i = 0; i < 60; i++ )
+			{
+				final int x = randomChunk( random );
+				final int z = randomChunk( random );
+
+				this.reader.setHasBeacon( x, z, 0, true );
+				beacons.add( key( x, z ) );
+			}
+
+			// the first round builds the summaries, the later ones update them.
+			for( final Long beacon : new ArrayList<>( beacons ) )
+			{
+				if( random.nextBoolean() )
+				{
+					final int x = (int) ( beacon >> 32 );
+					final int z = (int) (long) beacon;
+
+					this.reader.setHasBeacon( x, z, 0, false );
+					beacons.remove( beacon );
+				}
+			}
+
+			final List<Long> placed = new ArrayList<>( beacons );
+
+			for( int search = 0; search < 100; search++ )
+			{
+				final boolean alongZ = random.nextBoolean();
+				int x = LOW + random.nextInt( HIGH - LOW );
+				int z = LOW + random.nextInt( HIGH - LOW );
+
+				// most random lines miss every beacon, so half of them pass through one.
+				if( !placed.isEmpty() && random.nextBoolean() )
+				{
+					final long beacon = placed.get( random.nextInt( placed.size() ) );
+
+					if( alongZ )
+					{
+						x = (int) ( beacon >> 32 );
+					}
+					else
+					{
+						z = (int) beacon;
+					}
+				}
+
+				final int length = 1 + random.nextInt( HIGH - ( alongZ ? z : x ) );
+
+				assertEquals( this.findBruteForce( beacons, x, z, alongZ, length ), this.findSkipping( x, z, alongZ, length ) );
+			}
+		}
+	}
+
+	/**
+	 * Same walk as the compass search.
+	 */
+	private int findSkipping( final int x, final int z, final boolean alongZ, final int length )
+	{
+		int i = 0;
+
+		while( i < length )
+		{
+			final int cx = alongZ ? x : x + i;
+			final int cz = alongZ ? z + i : z;
+
+			final int empty = this.reader.getEmptyRun( cx, cz, alongZ );
+			if( empty > 0 )
+			{
+				i += empty;
+				continue;
+			}
+
+			if( this.reader.hasBeacon( cx, cz ) )
+			{
+				return i;
+			}
+
+			i++;
+		}
+
+		return -1;
+	}
+
+	private int findBruteForce( final Set<Long> beacons, final int x, final int z, final boolean alongZ, final int length )
+	{
+		for( int i = 0; i < length; i++ )
+		{
+			if( beacons.contains( alongZ ? key( x, z + i ) : key( x + i, z ) ) )
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Half of the beacons are clustered in one area, so there are full and empty blocks and areas next to each other.
+	 */
+	private static int randomChunk( final Random random )
+	{
+		if( random.nextBoolean() )
+		{
+			return 200 + random.nextInt( 64 );
+		}
+
+		return LOW + random.nextInt( HIGH - LOW );
+	}
+
+	private static long key( final int x, final int z )
+	{
+		return ( (long) x << 32 ) | ( z & 0xFFFFFFFFL );
+	}
+}
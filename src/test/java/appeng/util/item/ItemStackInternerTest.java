@@ -0,0 +1,102 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+
+/**
+ * Tests for {@link ItemStackInterner}
+ */
+public final class ItemStackInternerTest
+{
+	private final ItemStackInterner interner = new ItemStackInterner();
+
+	@BeforeClass
+	public static void bootstrap()
+	{
+		Bootstrap.register();
+	}
+
+	@Test
+	public void testSameTypeIsInternedOnce()
+	{
+		final ItemStack stack = new ItemStack( Items.APPLE, 5 );
+		final AESharedItemStack shared = this.interner.intern( stack );
+
+		assertSame( shared, this.interner.intern( new ItemStack( Items.APPLE, 1 ) ) );
+		assertEquals( 1, this.interner.size() );
+
+		// the given stack is left alone, the definition is a copy of one item.
+		assertEquals( 5, stack.getCount() );
+		assertEquals( 1, shared.getDefinition().getCount() );
+		assertNotSame( stack, shared.getDefinition() );
+	}
+
+	@Test
+	public void testDamageSeparatesTypes()
+	{
+		final AESharedItemStack red = this.interner.intern( new ItemStack( Items.DYE, 1, 1 ) );
+		final AESharedItemStack green = this.interner.intern( new ItemStack( Items.DYE, 1, 2 ) );
+
+		assertNotSame( red, green );
+		assertSame( red, this.interner.intern( new ItemStack( Items.DYE, 3, 1 ) ) );
+	}
+
+	@Test
+	public void testTagsSeparateTypes()
+	{
+		final AESharedItemStack plain = this.interner.intern( new ItemStack( Items.PAPER ) );
+		final AESharedItemStack tagged = this.interner.intern( tagged( "a" ) );
+
+		assertNotSame( plain, tagged );
+		assertSame( tagged, this.interner.intern( tagged( "a" ) ) );
+		assertNotSame( tagged, this.interner.intern( tagged( "b" ) ) );
+	}
+
+	@Test
+	public void testMatchesSharedStackEquality()
+	{
+		final ItemStack stack = tagged( "a" );
+		final AESharedItemStack shared = this.interner.intern( stack );
+
+		assertEquals( new AESharedItemStack( tagged( "a" ) ), shared );
+		assertSame( shared, this.interner.intern( shared.getDefinition() ) );
+	}
+
+	private static ItemStack tagged( final String value )
+	{
+		final ItemStack stack = new ItemStack( Items.PAPER );
+		final NBTTagCompound tag = new NBTTagCompound();
+		tag.setString( "value", value );
+		stack.setTagCompound( tag );
+		return stack;
+	}
+}